@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# Runs the same scenario against the service on platform threads (default) and on virtual threads
+# (profile "virtual"), one instance at a time, and keeps the histograms of each run apart.
+#
+#   ./compare-threads.sh [scenario] [extra Spring profiles, comma separated]
+#
+# Needs JDK 21 and the Java 21 build of the service: (cd .. && mvn package -Pjava21 -DskipTests)
+set -euo pipefail
+
+SCENARIO=${1:-thread-saturation}
+EXTRA_PROFILES=${2:-}
+JAR=../target/coupon-service-0.0.1-SNAPSHOT.jar
+BASE_URL=http://localhost:8080
+
+mkdir -p target
+
+for mode in platform virtual; do
+    profiles=$EXTRA_PROFILES
+    if [ "$mode" = virtual ]; then
+        profiles=${profiles:+$profiles,}virtual
+    fi
+    java -jar "$JAR" ${profiles:+--spring.profiles.active=$profiles} > "target/service-$mode.log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null' EXIT
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do
+        sleep 1
+    done
+
+    echo "== $SCENARIO on $mode threads"
+    mvn -q compile exec:java -Dexec.args="--only $SCENARIO --base-url $BASE_URL --results target/loadtest-results/$mode"
+    curl -s "$BASE_URL/actuator/metrics/jvm.threads.live" | grep -o '"value":[0-9.]*' | sed "s/\"value\"/live threads/"
+
+    kill $pid
+    wait $pid 2>/dev/null || true
+    trap - EXIT
+done
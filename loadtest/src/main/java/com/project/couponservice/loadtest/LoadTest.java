@@ -0,0 +1,70 @@
+package com.project.couponservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Replays the scenarios of a JSON Lines file against a running coupon service.
+ *
+ * <pre>
+ * cd loadtest
+ * mvn compile exec:java -Dexec.args="--base-url http://localhost:8080 --only flash-sale"
+ * </pre>
+ *
+ * Options: {@code --base-url} (default {@code http://localhost:8080}), {@code --scenarios} (default
+ * {@code scenarios.jsonl}), {@code --only} (comma separated scenario names) and {@code --results} (directory of
+ * the {@code .hgrm} files, default {@code target/loadtest-results}).
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String baseUrl = option(args, "--base-url", "http://localhost:8080");
+        Path scenariosFile = Path.of(option(args, "--scenarios", "scenarios.jsonl"));
+        Path results = Path.of(option(args, "--results", "target/loadtest-results"));
+        String only = option(args, "--only", null);
+        Set<String> selected = only != null ? Set.of(only.split(",")) : Set.of();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String line : Files.readAllLines(scenariosFile)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Scenario scenario = objectMapper.readValue(line, Scenario.class);
+            if (selected.isEmpty() || selected.contains(scenario.name())) {
+                scenarios.add(scenario);
+            }
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("No scenario selected from " + scenariosFile);
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Scenario scenario : scenarios) {
+            ScenarioRunner runner = new ScenarioRunner(client, objectMapper, new Target(baseUrl));
+            ScenarioResult result = runner.run(scenario);
+            result.print(System.out);
+            result.writeHistograms(results);
+        }
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        int index = Arrays.asList(args).indexOf(name);
+        return index >= 0 && index + 1 < args.length ? args[index + 1] : defaultValue;
+    }
+}
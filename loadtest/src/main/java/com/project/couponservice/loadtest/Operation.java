@@ -0,0 +1,85 @@
+package com.project.couponservice.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+
+public enum Operation {
+
+    CREATE("create", false) {
+        @Override
+        HttpRequest request(Target target, long sequence) {
+            String body = "{\"code\":\"" + target.nextCode() + "\",\"description\":\"Carga\",\"discountValue\":10,"
+                    + "\"expirationDate\":\"" + Target.EXPIRATION_DATE + "\",\"published\":true}";
+            return HttpRequest.newBuilder(target.uri("/coupons"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+    GET("get", false) {
+        @Override
+        HttpRequest request(Target target, long sequence) {
+            return HttpRequest.newBuilder(target.uri("/coupons/" + target.randomSeededId())).GET().build();
+        }
+    },
+    VALIDATE("validate", false) {
+        @Override
+        HttpRequest request(Target target, long sequence) {
+            return HttpRequest.newBuilder(target.uri("/coupons/" + target.randomSeededId() + "/validate")).GET().build();
+        }
+    },
+    SEARCH("search", false) {
+        @Override
+        HttpRequest request(Target target, long sequence) {
+            return HttpRequest.newBuilder(target.uri("/coupons?status=ACTIVE&limit=50")).GET().build();
+        }
+    },
+    REDEEM("redeem", false) {
+        @Override
+        HttpRequest request(Target target, long sequence) {
+            return HttpRequest.newBuilder(target.uri("/coupons/" + target.randomSeededId() + "/redeem"))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        }
+    },
+    REDEEM_HOT("redeem-hot", true) {
+        @Override
+        HttpRequest request(Target target, long sequence) {
+            return HttpRequest.newBuilder(target.uri("/coupons/" + target.hotCouponId() + "/redeem"))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        }
+    },
+    VALIDATE_HOT("validate-hot", true) {
+        @Override
+        HttpRequest request(Target target, long sequence) {
+            return HttpRequest.newBuilder(target.uri("/coupons/" + target.hotCouponId() + "/validate")).GET().build();
+        }
+    };
+
+    private final String label;
+    private final boolean usesHotCoupon;
+
+    Operation(String label, boolean usesHotCoupon) {
+        this.label = label;
+        this.usesHotCoupon = usesHotCoupon;
+    }
+
+    abstract HttpRequest request(Target target, long sequence);
+
+    public String label() {
+        return label;
+    }
+
+    public boolean usesHotCoupon() {
+        return usesHotCoupon;
+    }
+
+    public static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.label.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + name + "', expected one of "
+                        + Arrays.stream(values()).map(Operation::label).toList()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.couponservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of one operation, measured from the intended send time so that a stalled server shows up as
+ * queueing delay instead of fewer samples (no coordinated omission).
+ */
+final class OperationStats {
+
+    private static final long MAX_TRACKABLE = TimeUnit.MINUTES.toNanos(5);
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.min(latencyNanos, MAX_TRACKABLE));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void recordFailure(long latencyNanos, Throwable failure) {
+        latencies.recordValue(Math.min(latencyNanos, MAX_TRACKABLE));
+        Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+        failures.computeIfAbsent(cause.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+
+    Map<Integer, Long> statuses() {
+        return sums(statuses);
+    }
+
+    Map<String, Long> failures() {
+        return sums(failures);
+    }
+
+    private static <K> Map<K, Long> sums(Map<K, LongAdder> adders) {
+        Map<K, Long> counts = new TreeMap<>();
+        adders.forEach((key, count) -> counts.put(key, count.sum()));
+        return counts;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
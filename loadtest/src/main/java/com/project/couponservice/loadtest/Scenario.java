@@ -0,0 +1,27 @@
+package com.project.couponservice.loadtest;
+
+import java.util.Map;
+
+/**
+ * One line of the scenarios file. {@code rate} is the constant arrival rate in requests per second and
+ * {@code mix} the share of each {@link Operation}, by name, among those arrivals.
+ */
+public record Scenario(String name,
+                       int rate,
+                       int warmupSeconds,
+                       int durationSeconds,
+                       int seedCoupons,
+                       Integer hotCouponLimit,
+                       Integer maxInFlight,
+                       Map<String, Double> mix) {
+
+    private static final int DEFAULT_MAX_IN_FLIGHT = 10_000;
+
+    public int maxInFlightOrDefault() {
+        return maxInFlight != null ? maxInFlight : DEFAULT_MAX_IN_FLIGHT;
+    }
+
+    public boolean needsHotCoupon() {
+        return mix.keySet().stream().anyMatch(name -> Operation.fromName(name).usesHotCoupon());
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.couponservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+record ScenarioResult(Scenario scenario, Map<Operation, OperationStats> stats, int unfinished) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    void print(PrintStream out) {
+        out.printf("%n== %s: %d req/s for %ds (after %ds warm-up) ==%n", scenario.name(), scenario.rate(),
+                scenario.durationSeconds(), scenario.warmupSeconds());
+        out.printf("%-14s %9s %10s %8s %8s %9s %9s %9s %9s %9s  %s%n", "operation", "count", "req/s", "dropped",
+                "failed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses");
+        stats.forEach((operation, operationStats) -> {
+            Histogram latencies = operationStats.latencies();
+            out.printf("%-14s %9d %10.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    operation.label(),
+                    latencies.getTotalCount(),
+                    (double) latencies.getTotalCount() / scenario.durationSeconds(),
+                    operationStats.dropped(),
+                    operationStats.failures().values().stream().mapToLong(Long::longValue).sum(),
+                    latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    latencies.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                    latencies.getMaxValue() / NANOS_PER_MILLI,
+                    operationStats.statuses());
+        });
+        stats.forEach((operation, operationStats) -> {
+            if (!operationStats.failures().isEmpty()) {
+                out.printf("%s failures: %s%n", operation.label(), operationStats.failures());
+            }
+        });
+        if (unfinished > 0) {
+            out.printf("%d requests still in flight after the drain timeout%n", unfinished);
+        }
+    }
+
+    /**
+     * Writes one HdrHistogram percentile distribution ({@code .hgrm}, in milliseconds) per operation, which can
+     * be plotted or compared between runs.
+     */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            Path file = directory.resolve(scenario.name() + "-" + entry.getKey().label() + ".hgrm");
+            try (PrintStream out = new PrintStream(new FileOutputStream(file.toFile()))) {
+                entry.getValue().latencies().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.project.couponservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs one scenario open-loop: request {@code i} is due at {@code start + i / rate} and is sent at that time
+ * whether or not earlier requests have completed. Only {@code maxInFlight} bounds outstanding requests;
+ * arrivals beyond it are counted as dropped.
+ */
+final class ScenarioRunner {
+
+    private static final int SEED_CHUNK = 10_000;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final Target target;
+
+    ScenarioRunner(HttpClient client, ObjectMapper objectMapper, Target target) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.target = target;
+    }
+
+    ScenarioResult run(Scenario scenario) throws IOException, InterruptedException {
+        prepare(scenario);
+
+        Operation[] operations = scenario.mix().keySet().stream().map(Operation::fromName).toArray(Operation[]::new);
+        double[] cumulativeWeights = cumulativeWeights(scenario, operations);
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : operations) {
+            stats.put(operation, new OperationStats());
+        }
+
+        AtomicInteger inFlight = new AtomicInteger();
+        long total = (long) scenario.rate() * (scenario.warmupSeconds() + scenario.durationSeconds());
+        long warmupArrivals = (long) scenario.rate() * scenario.warmupSeconds();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * TimeUnit.SECONDS.toNanos(1) / scenario.rate();
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = pick(operations, cumulativeWeights);
+            OperationStats operationStats = i >= warmupArrivals ? stats.get(operation) : null;
+            if (inFlight.get() >= scenario.maxInFlightOrDefault()) {
+                if (operationStats != null) {
+                    operationStats.recordDropped();
+                }
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            client.sendAsync(operation.request(target, i), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - intended;
+                        if (operationStats != null) {
+                            if (failure != null) {
+                                operationStats.recordFailure(latency, failure);
+                            } else {
+                                operationStats.record(latency, response.statusCode());
+                            }
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        long measuredEnd = System.nanoTime();
+        long drainDeadline = measuredEnd + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        return new ScenarioResult(scenario, stats, inFlight.get());
+    }
+
+    private void prepare(Scenario scenario) throws IOException, InterruptedException {
+        if (scenario.seedCoupons() > 0) {
+            target.seededIds(seed(scenario.seedCoupons()));
+        }
+        if (scenario.needsHotCoupon()) {
+            target.hotCouponId(createHotCoupon(scenario.hotCouponLimit()));
+        }
+    }
+
+    private long[] seed(int count) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int chunk = Math.min(SEED_CHUNK, count - ids.size());
+            List<Map<String, Object>> coupons = new ArrayList<>(chunk);
+            for (int i = 0; i < chunk; i++) {
+                coupons.add(couponBody(target.nextCode(), null));
+            }
+            JsonNode response = post("/coupons/batch", Map.of("coupons", coupons));
+            for (JsonNode item : response.get("items")) {
+                if (item.hasNonNull("id")) {
+                    ids.add(item.get("id").asLong());
+                }
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long createHotCoupon(Integer limit) throws IOException, InterruptedException {
+        return post("/coupons", couponBody(target.nextCode(), limit)).get("id").asLong();
+    }
+
+    private Map<String, Object> couponBody(String code, Integer maxRedemptions) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", code);
+        body.put("description", "Carga");
+        body.put("discountValue", 10);
+        body.put("expirationDate", Target.EXPIRATION_DATE);
+        body.put("published", true);
+        if (maxRedemptions != null) {
+            body.put("maxRedemptions", maxRedemptions);
+        }
+        return body;
+    }
+
+    private JsonNode post(String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(target.uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("POST " + path + " failed with " + response.statusCode() + ": "
+                    + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static double[] cumulativeWeights(Scenario scenario, Operation[] operations) {
+        double[] cumulative = new double[operations.length];
+        double sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += scenario.mix().get(operations[i].label());
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static Operation pick(Operation[] operations, double[] cumulativeWeights) {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        for (int i = 0; i < operations.length - 1; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
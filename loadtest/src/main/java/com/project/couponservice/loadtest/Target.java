@@ -0,0 +1,58 @@
+package com.project.couponservice.loadtest;
+
+import java.net.URI;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The running instance and the coupons prepared for a scenario. Codes are a random letter followed by five
+ * base-36 digits of a counter that starts at a random offset, so repeated runs against the same database
+ * rarely collide.
+ */
+final class Target {
+
+    static final String EXPIRATION_DATE = "2099-12-31T23:59:59";
+
+    private static final long CODE_SPACE = 36L * 36 * 36 * 36 * 36;
+
+    private final String baseUrl;
+    private final char codePrefix;
+    private final AtomicLong codeSequence;
+    private long[] seededIds = new long[0];
+    private long hotCouponId = -1;
+
+    Target(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        this.codePrefix = (char) ('A' + random.nextInt(26));
+        this.codeSequence = new AtomicLong(random.nextLong(CODE_SPACE));
+    }
+
+    URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    String nextCode() {
+        String digits = Long.toString(codeSequence.getAndIncrement() % CODE_SPACE, 36).toUpperCase();
+        return codePrefix + "0".repeat(5 - digits.length()) + digits;
+    }
+
+    long randomSeededId() {
+        if (seededIds.length == 0) {
+            throw new IllegalStateException("Scenario uses seeded coupons but seedCoupons is 0");
+        }
+        return seededIds[ThreadLocalRandom.current().nextInt(seededIds.length)];
+    }
+
+    long hotCouponId() {
+        return hotCouponId;
+    }
+
+    void seededIds(long[] seededIds) {
+        this.seededIds = seededIds;
+    }
+
+    void hotCouponId(long hotCouponId) {
+        this.hotCouponId = hotCouponId;
+    }
+}
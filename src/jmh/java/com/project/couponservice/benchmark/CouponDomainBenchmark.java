@@ -0,0 +1,48 @@
+package com.project.couponservice.benchmark;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.CouponCode;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a coupon from request data: code sanitization, discount and expiration checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponDomainBenchmark {
+
+    @Param({"ABC123", "ab-c1 23"})
+    private String rawCode;
+
+    private BigDecimal discountValue;
+    private LocalDateTime expirationDate;
+
+    @Setup
+    public void setUp() {
+        discountValue = new BigDecimal("10.50");
+        expirationDate = LocalDateTime.now().plusYears(1);
+    }
+
+    @Benchmark
+    public Coupon newCoupon() {
+        return Coupon.newCoupon(rawCode, "Desconto de teste", discountValue, expirationDate, true);
+    }
+
+    @Benchmark
+    public Coupon newCouponWithRedemptionLimit() {
+        return Coupon.newCoupon(rawCode, "Desconto de teste", discountValue, expirationDate, true, 100);
+    }
+
+    @Benchmark
+    public long encodeCode() {
+        return CouponCode.encode(rawCode);
+    }
+}
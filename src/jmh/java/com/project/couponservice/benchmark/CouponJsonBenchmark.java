@@ -0,0 +1,64 @@
+package com.project.couponservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.couponservice.api.dto.CreateCouponRequest;
+import com.project.couponservice.api.dto.GetCouponResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request and response bodies through an {@link ObjectMapper} configured like Spring Boot's
+ * (JavaTimeModule registered, dates written as ISO strings).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponJsonBenchmark {
+
+    private ObjectWriter responseWriter;
+    private ObjectWriter requestWriter;
+    private ObjectReader requestReader;
+    private GetCouponResponse response;
+    private CreateCouponRequest request;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseWriter = objectMapper.writerFor(GetCouponResponse.class);
+        requestWriter = objectMapper.writerFor(CreateCouponRequest.class);
+        requestReader = objectMapper.readerFor(CreateCouponRequest.class);
+
+        LocalDateTime expirationDate = LocalDateTime.of(2030, 1, 31, 23, 59, 59);
+        response = new GetCouponResponse(1L, "ABC123", "Desconto de teste", new BigDecimal("10.50"), expirationDate,
+                "ACTIVE", true, false, 100, 3);
+        request = new CreateCouponRequest("ABC123", "Desconto de teste", new BigDecimal("10.50"), expirationDate,
+                true, 100);
+        requestJson = requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] writeGetCouponResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeCreateCouponRequest() throws IOException {
+        return requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public CreateCouponRequest readCreateCouponRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.couponservice.benchmark;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.infra.entity.CouponJpaEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain to JPA entity mapping done on every read and write through {@code CouponJpaPort}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponMappingBenchmark {
+
+    private Coupon coupon;
+    private CouponJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        coupon = Coupon.with(1L, "ABC123", "Desconto de teste", new BigDecimal("10.50"), now.plusYears(1),
+                true, false, now, now, 100, 3, 0L);
+        entity = CouponJpaEntity.fromDomain(coupon);
+    }
+
+    @Benchmark
+    public CouponJpaEntity fromDomain() {
+        return CouponJpaEntity.fromDomain(coupon);
+    }
+
+    @Benchmark
+    public Coupon toDomain() {
+        return entity.toDomain();
+    }
+}
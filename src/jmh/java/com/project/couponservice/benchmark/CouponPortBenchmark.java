@@ -0,0 +1,95 @@
+package com.project.couponservice.benchmark;
+
+import com.project.couponservice.CouponServiceApplication;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.ports.CouponMetadata;
+import com.project.couponservice.domain.ports.CouponPort;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JPA and JDBC adapters of {@code CouponPort} on the same H2 schema, called directly (without the cache)
+ * so each operation reaches the database. {@code update} includes the read that provides the version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CouponPortBenchmark {
+
+    private static final int COUPONS = 10_000;
+
+    @Param({"jpa", "jdbc"})
+    public String store;
+
+    private ConfigurableApplicationContext context;
+    private CouponPort port;
+    private long[] ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CouponServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "coupon.store=" + store,
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + store + ";DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=64",
+                        "logging.level.root=WARN")
+                .run();
+        port = BeanFactoryAnnotationUtils.qualifiedBeanOfType(context.getBeanFactory(), CouponPort.class,
+                "couponStore");
+
+        List<Coupon> coupons = new ArrayList<>(COUPONS);
+        for (int i = 0; i < COUPONS; i++) {
+            coupons.add(Coupon.newCoupon(String.format("B%05d", i), "Desconto de benchmark", new BigDecimal("10.50"),
+                    LocalDateTime.now().plusYears(1), true));
+        }
+        ids = port.saveAll(coupons).stream().mapToLong(Coupon::getId).toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Coupon> findById() {
+        return port.findById(nextId());
+    }
+
+    @Benchmark
+    public Optional<CouponMetadata> findMetadata() {
+        return port.findMetadata(nextId());
+    }
+
+    @Benchmark
+    public boolean redeem() {
+        return port.redeem(nextId(), LocalDateTime.now());
+    }
+
+    @Benchmark
+    public Coupon update() {
+        Coupon coupon = port.findById(nextId()).orElseThrow();
+        return port.update(Coupon.with(coupon.getId(), coupon.getCode(), coupon.getDescription(),
+                coupon.getDiscountValue(), coupon.getExpirationDate(), coupon.isPublished(), coupon.isDeleted(),
+                coupon.getCreatedAt(), LocalDateTime.now(), coupon.getMaxRedemptions(), coupon.getRedeemedCount(),
+                coupon.getVersion()));
+    }
+
+    private long nextId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.couponservice.benchmark;
+
+import com.project.couponservice.api.CouponController;
+import com.project.couponservice.api.dto.CreateCouponRequest;
+import com.project.couponservice.api.exception.GlobalExceptionHandler;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.RejectionReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error bodies built by {@link GlobalExceptionHandler}. The {@code throw*} variants also pay for creating
+ * the exception, which is what a rejected request costs end to end; the {@code shared*} variants are the
+ * redemption and lookup rejections, which reuse both the exception and the serialized response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private DomainException domainException;
+    private NotFoundException notFoundException;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+        domainException = new DomainException("Cupom expirado.");
+        notFoundException = new NotFoundException("Cupom 1 não encontrado.");
+
+        MethodParameter parameter = new MethodParameter(
+                CouponController.class.getMethod("create", String.class, CreateCouponRequest.class), 1);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "createCouponRequest");
+        bindingResult.addError(new FieldError("createCouponRequest", "discountValue",
+                "O valor do desconto deve ser no mínimo 0,5"));
+        bindingResult.addError(new FieldError("createCouponRequest", "code", "must not be blank"));
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> domainError() {
+        return handler.handleDomainException(domainException);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> notFoundError() {
+        return handler.handleNotFoundException(notFoundException);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, String>> validationError() {
+        return handler.handleValidationException(validationException);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> throwDomainError() {
+        return handler.handleDomainException(new DomainException("Cupom expirado."));
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> throwNotFoundError() {
+        return handler.handleNotFoundException(new NotFoundException("Cupom 1 não encontrado."));
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> sharedRejection() {
+        return handler.handleDomainException(DomainException.rejected(RejectionReason.EXPIRED));
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> sharedNotFound() {
+        return handler.handleNotFoundException(NotFoundException.coupon());
+    }
+}
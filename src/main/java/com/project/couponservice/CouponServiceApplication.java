@@ -2,8 +2,13 @@ package com.project.couponservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+/**
+ * R2DBC auto-configuration is left out: the reactive adapter opens its own pool, and an auto-configured
+ * {@code ConnectionFactory} would make Spring Boot skip the JDBC {@code DataSource}.
+ */
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class CouponServiceApplication {
 
     public static void main(String[] args) {
@@ -1,53 +1,197 @@
 package com.project.couponservice.api;
 
 import com.project.couponservice.api.dto.GetCouponResponse;
+import com.project.couponservice.api.dto.GetCouponsResponse;
+import com.project.couponservice.api.dto.ImportCouponErrorResponse;
+import com.project.couponservice.api.dto.ImportCouponsSummaryResponse;
 import com.project.couponservice.api.dto.CreateCouponRequest;
 import com.project.couponservice.api.dto.CreateCouponResponse;
+import com.project.couponservice.api.dto.CreateCouponsBatchRequest;
+import com.project.couponservice.api.dto.CreateCouponsBatchResponse;
 import com.project.couponservice.api.dto.RedeemCouponResponse;
+import com.project.couponservice.api.dto.SearchCouponsResponse;
+import com.project.couponservice.api.dto.ValidateCouponResponse;
+import com.project.couponservice.api.idempotency.IdempotentRequests;
+import com.project.couponservice.api.stream.CouponImportReader;
+import com.project.couponservice.api.stream.NdjsonWriter;
+import com.project.couponservice.api.stream.StreamingTimeout;
 import com.project.couponservice.application.redeem.RedeemCouponCommand;
 import com.project.couponservice.application.redeem.RedeemCouponOutput;
 import com.project.couponservice.application.redeem.RedeemCouponUseCase;
+import com.project.couponservice.application.search.SearchCouponsCommand;
+import com.project.couponservice.application.search.SearchCouponsOutput;
+import com.project.couponservice.application.search.SearchCouponsUseCase;
 import com.project.couponservice.application.create.CreateCouponCommand;
 import com.project.couponservice.application.create.CreateCouponOutput;
 import com.project.couponservice.application.create.CreateCouponUseCase;
+import com.project.couponservice.application.create.CreateCouponsBatchCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchOutput;
+import com.project.couponservice.application.create.CreateCouponsBatchUseCase;
 import com.project.couponservice.application.delete.DeleteCouponCommand;
 import com.project.couponservice.application.delete.DeleteCouponUseCase;
+import com.project.couponservice.application.export.ExportCouponsCommand;
+import com.project.couponservice.application.export.ExportCouponsUseCase;
 import com.project.couponservice.application.get.GetCouponCommand;
+import com.project.couponservice.application.get.GetCouponMetadataOutput;
+import com.project.couponservice.application.get.GetCouponMetadataUseCase;
 import com.project.couponservice.application.get.GetCouponOutput;
 import com.project.couponservice.application.get.GetCouponUseCase;
+import com.project.couponservice.application.get.GetCouponsCommand;
+import com.project.couponservice.application.get.GetCouponsOutput;
+import com.project.couponservice.application.get.GetCouponsUseCase;
+import com.project.couponservice.application.imports.ImportCouponsCommand;
+import com.project.couponservice.application.imports.ImportCouponsOutput;
+import com.project.couponservice.application.imports.ImportCouponsUseCase;
+import com.project.couponservice.application.validate.ValidateCouponCommand;
+import com.project.couponservice.application.validate.ValidateCouponOutput;
+import com.project.couponservice.application.validate.ValidateCouponUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
 @RestController
 @RequestMapping("/coupons")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CouponController {
 
     private final GetCouponUseCase getCouponUseCase;
+    private final GetCouponMetadataUseCase getCouponMetadataUseCase;
+    private final GetCouponsUseCase getCouponsUseCase;
     private final CreateCouponUseCase createCouponUseCase;
+    private final CreateCouponsBatchUseCase createCouponsBatchUseCase;
     private final DeleteCouponUseCase deleteCouponUseCase;
     private final RedeemCouponUseCase redeemCouponUseCase;
+    private final ExportCouponsUseCase exportCouponsUseCase;
+    private final ImportCouponsUseCase importCouponsUseCase;
+    private final SearchCouponsUseCase searchCouponsUseCase;
+    private final ValidateCouponUseCase validateCouponUseCase;
+    private final IdempotentRequests idempotentRequests;
+    private final StreamingTimeout streamingTimeout;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * Revalidates {@code If-None-Match}/{@code If-Modified-Since} against the coupon metadata before loading
+     * it, answering 304 without building the body. The validators are set from that same metadata, so a write
+     * that lands before the full load only makes the next revalidation return 200 again. A request without
+     * those headers skips the metadata read and takes the validators from the loaded coupon.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<GetCouponResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<GetCouponResponse> getById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            GetCouponMetadataOutput metadata = getCouponMetadataUseCase.execute(new GetCouponCommand(id));
+            if (webRequest.checkNotModified(eTag(metadata), lastModified(metadata))) {
+                return null;
+            }
+            return ResponseEntity.ok(toResponse(getCouponUseCase.execute(new GetCouponCommand(id))));
+        }
         GetCouponOutput output = getCouponUseCase.execute(new GetCouponCommand(id));
-        GetCouponResponse response = new GetCouponResponse(output.id(), output.code(), output.description(),
-                output.discountValue(), output.expirationDate(), output.status(), output.published(),
-                output.deleted());
+        GetCouponMetadataOutput metadata = GetCouponMetadataOutput.from(output);
+        // Nothing to compare against: this only sets the validators on the response.
+        webRequest.checkNotModified(eTag(metadata), lastModified(metadata));
+        return ResponseEntity.ok(toResponse(output));
+    }
+
+    @GetMapping("/by-ids")
+    public ResponseEntity<GetCouponsResponse> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(toResponse(getCouponsUseCase.execute(new GetCouponsCommand(ids, null))));
+    }
+
+    @GetMapping("/by-codes")
+    public ResponseEntity<GetCouponsResponse> getByCodes(@RequestParam List<String> codes) {
+        return ResponseEntity.ok(toResponse(getCouponsUseCase.execute(new GetCouponsCommand(null, codes))));
+    }
+
+    @GetMapping
+    public ResponseEntity<SearchCouponsResponse> search(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean published,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expirationFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expirationTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        SearchCouponsOutput output = searchCouponsUseCase.execute(new SearchCouponsCommand(status, published,
+                expirationFrom, expirationTo, cursor, limit));
+        SearchCouponsResponse response = new SearchCouponsResponse(
+                output.coupons().stream().map(this::toResponse).toList(), output.nextCursor());
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/export", produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Boolean published,
+            @RequestParam(required = false) Boolean deleted,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expirationFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expirationTo,
+            WebRequest webRequest) {
+        streamingTimeout.extend(webRequest);
+        ExportCouponsCommand command = new ExportCouponsCommand(published, deleted, expirationFrom, expirationTo);
+        StreamingResponseBody body = outputStream -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream)) {
+                exportCouponsUseCase.execute(command, output -> writer.write(toResponse(output)));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE)).body(body);
+    }
+
     @PostMapping
-    public ResponseEntity<CreateCouponResponse> create(@Valid @RequestBody CreateCouponRequest request) {
-        CreateCouponCommand command = new CreateCouponCommand(request.getCode(), request.getDescription(),
-                request.getDiscountValue(), request.getExpirationDate(), request.isPublished());
+    public ResponseEntity<?> create(@RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
+                                    @Valid @RequestBody CreateCouponRequest request) {
+        return idempotentRequests.execute("create", idempotencyKey, request, () -> {
+            CreateCouponCommand command = toCommand(request);
+
+            CreateCouponOutput output = createCouponUseCase.execute(command);
+            CreateCouponResponse response = new CreateCouponResponse(output.id(), output.code(), output.expirationDate());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<CreateCouponsBatchResponse> createBatch(@Valid @RequestBody CreateCouponsBatchRequest request) {
+        CreateCouponsBatchOutput output = createCouponsBatchUseCase.execute(new CreateCouponsBatchCommand(
+                request.getCoupons().stream().map(this::toCommand).toList()));
+
+        CreateCouponsBatchResponse response = new CreateCouponsBatchResponse(output.created(), output.failed(),
+                output.items().stream()
+                        .map(item -> new CreateCouponsBatchResponse.Item(item.index(), item.id(), item.code(),
+                                item.error()))
+                        .toList());
+        return ResponseEntity.ok(response);
+    }
 
-        CreateCouponOutput output = createCouponUseCase.execute(command);
-        CreateCouponResponse response = new CreateCouponResponse(output.id(), output.code(), output.expirationDate());
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    @PostMapping(value = "/import", consumes = {CouponImportReader.CSV_MEDIA_TYPE, NdjsonWriter.MEDIA_TYPE},
+            produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> importCoupons(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                               InputStream body,
+                                                               WebRequest webRequest) throws IOException {
+        streamingTimeout.extend(webRequest);
+        CouponImportReader reader = CouponImportReader.open(body, contentType, objectMapper);
+        StreamingResponseBody responseBody = outputStream -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream)) {
+                ImportCouponsOutput output = importCouponsUseCase.execute(new ImportCouponsCommand(reader),
+                        error -> writer.write(new ImportCouponErrorResponse(error.lineNumber(), error.code(),
+                                error.error())));
+                writer.write(new ImportCouponsSummaryResponse(output.total(), output.created(), output.failed()));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE)).body(responseBody);
     }
 
     @DeleteMapping("/{id}")
@@ -56,10 +200,45 @@ public class CouponController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/{id}/validate")
+    public ResponseEntity<ValidateCouponResponse> validate(@PathVariable Long id) {
+        ValidateCouponOutput output = validateCouponUseCase.execute(new ValidateCouponCommand(id));
+        return ResponseEntity.ok(new ValidateCouponResponse(output.id(), output.valid(), output.reason()));
+    }
+
     @PostMapping("/{id}/redeem")
-    public ResponseEntity<RedeemCouponResponse> redeem(@PathVariable Long id) {
-        RedeemCouponOutput output = redeemCouponUseCase.execute(new RedeemCouponCommand(id));
-        RedeemCouponResponse response = new RedeemCouponResponse(output.id(), output.redeemed());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> redeem(@RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey,
+                                    @PathVariable Long id) {
+        return idempotentRequests.execute("redeem", idempotencyKey, String.valueOf(id), () -> {
+            RedeemCouponOutput output = redeemCouponUseCase.execute(new RedeemCouponCommand(id));
+            RedeemCouponResponse response = new RedeemCouponResponse(output.id(), output.redeemed());
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    private CreateCouponCommand toCommand(CreateCouponRequest request) {
+        return new CreateCouponCommand(request.getCode(), request.getDescription(), request.getDiscountValue(),
+                request.getExpirationDate(), request.isPublished(), request.getMaxRedemptions());
+    }
+
+    private GetCouponResponse toResponse(GetCouponOutput output) {
+        return new GetCouponResponse(output.id(), output.code(), output.description(), output.discountValue(),
+                output.expirationDate(), output.status(), output.published(), output.deleted(),
+                output.maxRedemptions(), output.redeemedCount());
+    }
+
+    private static String eTag(GetCouponMetadataOutput metadata) {
+        Instant updatedAt = metadata.updatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        long updatedAtMicros = updatedAt.getEpochSecond() * 1_000_000L + updatedAt.getNano() / 1_000;
+        return "\"" + metadata.id() + "-" + metadata.version() + "-" + Long.toHexString(updatedAtMicros) + "-"
+                + metadata.status() + "\"";
+    }
+
+    private static long lastModified(GetCouponMetadataOutput metadata) {
+        return metadata.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private GetCouponsResponse toResponse(GetCouponsOutput output) {
+        return new GetCouponsResponse(output.coupons().stream().map(this::toResponse).toList(), output.notFound());
     }
 }
\ No newline at end of file
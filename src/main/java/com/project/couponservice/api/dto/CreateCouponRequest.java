@@ -2,6 +2,7 @@ package com.project.couponservice.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -30,4 +31,7 @@ public class CreateCouponRequest {
 
     private boolean published;
 
+    @Min(value = 1, message = "O limite de resgates deve ser maior que zero")
+    private Integer maxRedemptions;
+
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.project.couponservice.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateCouponsBatchRequest {
+
+    @NotEmpty
+    @Size(max = 100000, message = "O lote deve ter no máximo 100000 cupons")
+    private List<@NotNull CreateCouponRequest> coupons;
+}
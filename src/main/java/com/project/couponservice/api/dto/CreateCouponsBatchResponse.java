@@ -0,0 +1,25 @@
+package com.project.couponservice.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CreateCouponsBatchResponse {
+    private int created;
+    private int failed;
+    private List<Item> items;
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+        private int index;
+        private Long id;
+        private String code;
+        private String error;
+    }
+}
@@ -17,4 +17,6 @@ public class GetCouponResponse {
     private String status;
     private boolean published;
     private boolean deleted;
+    private Integer maxRedemptions;
+    private int redeemedCount;
 }
@@ -0,0 +1,12 @@
+package com.project.couponservice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportCouponErrorResponse {
+    private long line;
+    private String code;
+    private String error;
+}
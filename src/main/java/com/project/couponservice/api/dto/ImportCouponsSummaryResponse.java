@@ -0,0 +1,12 @@
+package com.project.couponservice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportCouponsSummaryResponse {
+    private long total;
+    private long created;
+    private long failed;
+}
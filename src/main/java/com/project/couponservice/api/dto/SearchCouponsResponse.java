@@ -0,0 +1,13 @@
+package com.project.couponservice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SearchCouponsResponse {
+    private List<GetCouponResponse> coupons;
+    private String nextCursor;
+}
@@ -0,0 +1,12 @@
+package com.project.couponservice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ValidateCouponResponse {
+    private Long id;
+    private boolean valid;
+    private String reason;
+}
@@ -1,40 +1,135 @@
 package com.project.couponservice.api.exception;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.project.couponservice.api.idempotency.IdempotencyKeyReusedException;
+import com.project.couponservice.domain.ConflictException;
 import com.project.couponservice.domain.DomainException;
 import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.OverloadedException;
+import com.project.couponservice.domain.RejectionReason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String REJECTIONS_METRIC = "coupon.rejections";
+
+    private final Map<RejectionReason, Counter> rejections = new EnumMap<>(RejectionReason.class);
+    private final Counter invalidRejections;
+    private final Counter conflicts;
+    private final Map<RejectionReason, ResponseEntity<byte[]>> rejectionResponses = new EnumMap<>(RejectionReason.class);
+    private final ResponseEntity<byte[]> notFoundResponse;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        for (RejectionReason reason : RejectionReason.values()) {
+            rejections.put(reason, meterRegistry.counter(REJECTIONS_METRIC, "reason", reason.name()));
+            rejectionResponses.put(reason, errorResponse(HttpStatus.BAD_REQUEST, reason.message()));
+        }
+        this.notFoundResponse = errorResponse(HttpStatus.NOT_FOUND, RejectionReason.NOT_FOUND.message());
+        this.invalidRejections = meterRegistry.counter(REJECTIONS_METRIC, "reason", "INVALID");
+        this.conflicts = meterRegistry.counter("coupon.conflicts");
+    }
+
+    /**
+     * Rejections with the standard message of their reason, which is every redemption rejection, answer with
+     * a response built once at startup. Other messages are escaped straight into the body.
+     */
     @ExceptionHandler(DomainException.class)
-    public ResponseEntity<Map<String, String>> handleDomainException(DomainException ex) {
+    public ResponseEntity<byte[]> handleDomainException(DomainException ex) {
+        RejectionReason reason = ex.getReason();
+        countRejection(reason);
+        if (reason != null && reason.message().equals(ex.getMessage())) {
+            return rejectionResponses.get(reason);
+        }
+        return errorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<byte[]> handleNotFoundException(NotFoundException ex) {
+        countRejection(RejectionReason.NOT_FOUND);
+        if (RejectionReason.NOT_FOUND.message().equals(ex.getMessage())) {
+            return notFoundResponse;
+        }
+        return errorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, String>> handleConflictException(ConflictException ex) {
+        conflicts.increment();
         Map<String, String> error = new HashMap<>();
         error.put("Erro", ex.getMessage());
-        return ResponseEntity.badRequest().body(error);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
-    @ExceptionHandler(NotFoundException.class)
-    public ResponseEntity<Map<String, String>> handleNotFoundException(NotFoundException ex) {
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<Map<String, String>> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex) {
         Map<String, String> error = new HashMap<>();
         error.put("Erro", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<Map<String, String>> handleOverloadedException(OverloadedException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("Erro", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+
+    /**
+     * No connection became free within {@code spring.datasource.hikari.connection-timeout}. On virtual threads
+     * the pool is what bounds concurrent database work, so a timed-out wait is answered like any other overload.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Map<String, String>> handleConnectionUnavailable(NestedRuntimeException ex) {
+        if (!(ex.getMostSpecificCause() instanceof SQLTransientConnectionException)) {
+            throw ex;
+        }
+        return handleOverloadedException(new OverloadedException("Serviço sobrecarregado, tente novamente."));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationException(MethodArgumentNotValidException ex) {
+        return handleInvalidFields(ex.getBindingResult());
+    }
+
+    /**
+     * Body validation failures of handlers that validate explicitly, such as the reactive router.
+     */
+    public ResponseEntity<Map<String, String>> handleInvalidFields(BindingResult bindingResult) {
+        invalidRejections.increment();
         Map<String, String> errors = new HashMap<>();
-        for (FieldError fieldError : ex.getBindingResult().getFieldErrors()) {
+        for (FieldError fieldError : bindingResult.getFieldErrors()) {
             errors.put(fieldError.getField(), fieldError.getDefaultMessage());
         }
         return ResponseEntity.badRequest().body(errors);
     }
+
+    private void countRejection(RejectionReason reason) {
+        (reason != null ? rejections.get(reason) : invalidRejections).increment();
+    }
+
+    private static ResponseEntity<byte[]> errorResponse(HttpStatus status, String message) {
+        byte[] body = ("{\"Erro\":\"" + new String(JsonStringEncoder.getInstance().quoteAsString(message)) + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
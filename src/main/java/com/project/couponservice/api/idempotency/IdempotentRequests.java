@@ -0,0 +1,162 @@
+package com.project.couponservice.api.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.couponservice.api.exception.GlobalExceptionHandler;
+import com.project.couponservice.domain.ConflictException;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.ports.IdempotencyStorePort;
+import com.project.couponservice.domain.ports.IdempotencyStorePort.StoredResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per {@code Idempotency-Key}. The response of the first execution, successful or a
+ * domain rejection, is stored and replayed to every retry with the same key and the same request. Duplicates
+ * that arrive while the first one is still running wait for its result instead of running again. Failures
+ * that may succeed on retry (conflicts, overload, unexpected errors) are not stored.
+ */
+@Component
+public class IdempotentRequests {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStorePort store;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ObjectMapper objectMapper;
+    private final long waitTimeoutNanos;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotentRequests(IdempotencyStorePort store,
+                              GlobalExceptionHandler exceptionHandler,
+                              ObjectMapper objectMapper,
+                              @Value("${coupon.idempotency.wait-timeout:30s}") Duration waitTimeout) {
+        this.store = store;
+        this.exceptionHandler = exceptionHandler;
+        this.objectMapper = objectMapper;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+    }
+
+    /**
+     * @param operation   namespace of the key, so the same key can be used for different endpoints
+     * @param key         value of the {@code Idempotency-Key} header; without it the action just runs
+     * @param request     what identifies the request, compared on every retry with the same key
+     */
+    public ResponseEntity<?> execute(String operation, String key, Object request, Supplier<ResponseEntity<?>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new DomainException("O header " + HEADER + " deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+        }
+        String storeKey = operation + ":" + key;
+        String fingerprint = fingerprint(request);
+
+        Optional<StoredResponse> stored = store.find(storeKey);
+        if (stored.isPresent()) {
+            return replay(stored.get(), fingerprint);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(storeKey, mine);
+        if (running != null) {
+            return replay(await(running), fingerprint);
+        }
+
+        try {
+            // The first request may have stored its response and left inFlight after the check above.
+            Optional<StoredResponse> storedMeanwhile = store.find(storeKey);
+            if (storedMeanwhile.isPresent()) {
+                mine.complete(storedMeanwhile.get());
+                return replay(storedMeanwhile.get(), fingerprint);
+            }
+            StoredResponse response = run(fingerprint, action);
+            store.save(storeKey, response);
+            mine.complete(response);
+            return toResponse(response, false);
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(storeKey, mine);
+        }
+    }
+
+    private StoredResponse run(String fingerprint, Supplier<ResponseEntity<?>> action) {
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (DomainException ex) {
+            response = exceptionHandler.handleDomainException(ex);
+        } catch (NotFoundException ex) {
+            response = exceptionHandler.handleNotFoundException(ex);
+        }
+        try {
+            byte[] body = response.getBody() instanceof byte[] serialized
+                    ? serialized
+                    : objectMapper.writeValueAsBytes(response.getBody());
+            return new StoredResponse(fingerprint, response.getStatusCode().value(), body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new ConflictException("Requisição com a mesma " + HEADER + " ainda em processamento.");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Requisição com a mesma " + HEADER + " ainda em processamento.");
+        }
+    }
+
+    private ResponseEntity<?> replay(StoredResponse stored, String fingerprint) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException("A " + HEADER + " informada já foi usada com outra requisição.");
+        }
+        return toResponse(stored, true);
+    }
+
+    private static ResponseEntity<?> toResponse(StoredResponse stored, boolean replayed) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.status()).contentType(MediaType.APPLICATION_JSON);
+        if (replayed) {
+            builder.header(REPLAYED_HEADER, "true");
+        }
+        return builder.body(stored.body());
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] content = request instanceof String text
+                    ? text.getBytes(StandardCharsets.UTF_8)
+                    : objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.couponservice.api.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit estimated with additive increase / multiplicative decrease. The limit grows by one for
+ * every fast completion observed while at least half of it is in use, and shrinks by {@code backoffRatio}
+ * at most once per round trip: a slow or failed request that started before the last decrease was admitted
+ * under the old limit and does not shrink it again. It settles around the concurrency the backend sustains
+ * within the latency threshold.
+ */
+class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastDecreaseNanos;
+
+    AimdLimiter(LoadSheddingProperties.Budget budget) {
+        this.minLimit = budget.getMinLimit();
+        this.maxLimit = budget.getMaxLimit();
+        this.latencyThresholdNanos = budget.getLatencyThreshold().toNanos();
+        this.backoffRatio = budget.getBackoffRatio();
+        this.limit = budget.getInitialLimit();
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    void release(long rttNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        if (failed || rttNanos > latencyThresholdNanos) {
+            long now = System.nanoTime();
+            decrease(now - rttNanos, now);
+        } else if (current * 2 >= (int) limit) {
+            increase();
+        }
+    }
+
+    private synchronized void decrease(long startedNanos, long now) {
+        if (startedNanos - lastDecreaseNanos < 0) {
+            return;
+        }
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastDecreaseNanos = now;
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1);
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
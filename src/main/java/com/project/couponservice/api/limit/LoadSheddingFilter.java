@@ -0,0 +1,128 @@
+package com.project.couponservice.api.limit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.couponservice.shared.web.ClientIdResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds load in front of {@code CouponController} before a request takes a servlet thread's worth of work.
+ * Reads (GET/HEAD) and writes have separate adaptive concurrency limits, so a burst of redemptions cannot
+ * starve cheap lookups. Requests above the limit get an immediate 503 and, when per-client buckets are
+ * enabled, clients above their rate get 429; both carry {@code Retry-After}. Export and import are
+ * long-running streams and are not limited here.
+ */
+@Component
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+@ConditionalOnProperty(prefix = "coupon.limiter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final String METRIC_PREFIX = "coupon.limiter";
+    private static final byte[] OVERLOADED_BODY =
+            "{\"Erro\":\"Serviço sobrecarregado, tente novamente.\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RATE_LIMITED_BODY =
+            "{\"Erro\":\"Limite de requisições excedido, tente novamente.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AimdLimiter readLimiter;
+    private final AimdLimiter writeLimiter;
+    private final ClientIdResolver clientIdResolver;
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final LoadSheddingProperties.Client clientSettings;
+    private final String retryAfterSeconds;
+    private final Counter readShed;
+    private final Counter writeShed;
+    private final Counter rateLimited;
+
+    public LoadSheddingFilter(LoadSheddingProperties properties, ClientIdResolver clientIdResolver,
+                              MeterRegistry meterRegistry) {
+        this.readLimiter = new AimdLimiter(properties.getRead());
+        this.writeLimiter = new AimdLimiter(properties.getWrite());
+        this.clientIdResolver = clientIdResolver;
+        this.clientSettings = properties.getClient();
+        this.clientBuckets = clientSettings.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(clientSettings.getMaximumClients())
+                        .expireAfterAccess(Duration.ofMinutes(10))
+                        .build()
+                : null;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+
+        bindLimiter(meterRegistry, "read", readLimiter);
+        bindLimiter(meterRegistry, "write", writeLimiter);
+        this.readShed = meterRegistry.counter(METRIC_PREFIX + ".rejected", "budget", "read", "reason", "limit");
+        this.writeShed = meterRegistry.counter(METRIC_PREFIX + ".rejected", "budget", "write", "reason", "limit");
+        this.rateLimited = meterRegistry.counter(METRIC_PREFIX + ".rejected", "budget", "client", "reason", "rate");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/coupons") || path.startsWith("/coupons/export") || path.startsWith("/coupons/import");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (clientBuckets != null) {
+            TokenBucket bucket = clientBuckets.get(clientIdResolver.resolve(request),
+                    key -> new TokenBucket(clientSettings.getRatePerSecond(), clientSettings.getBurst()));
+            long waitNanos = bucket.tryConsume();
+            if (waitNanos > 0) {
+                rateLimited.increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS,
+                        String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))),
+                        RATE_LIMITED_BODY);
+                return;
+            }
+        }
+
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        AimdLimiter limiter = read ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            (read ? readShed : writeShed).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds, OVERLOADED_BODY);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String retryAfter, byte[] body)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static void bindLimiter(MeterRegistry registry, String budget, AimdLimiter limiter) {
+        Gauge.builder(METRIC_PREFIX + ".limit", limiter, AimdLimiter::limit).tag("budget", budget).register(registry);
+        Gauge.builder(METRIC_PREFIX + ".inflight", limiter, AimdLimiter::inFlight).tag("budget", budget).register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.couponservice.api.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.limiter")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Budget read = new Budget(200, 10, 1000, Duration.ofMillis(50));
+    private Budget write = new Budget(40, 4, 200, Duration.ofMillis(100));
+    private Client client = new Client();
+
+    /**
+     * AIMD limit of concurrent requests: +1 when a request completes under {@code latencyThreshold} while the
+     * limit is in use, times {@code backoffRatio} when it completes slower or fails with 5xx, at most once per
+     * round trip.
+     */
+    @Getter
+    @Setter
+    public static class Budget {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private Duration latencyThreshold;
+        private double backoffRatio = 0.9;
+
+        public Budget() {
+        }
+
+        Budget(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThreshold = latencyThreshold;
+        }
+    }
+
+    /**
+     * Token bucket per client, as identified by {@link com.project.couponservice.shared.web.ClientIdResolver}.
+     */
+    @Getter
+    @Setter
+    public static class Client {
+        private boolean enabled = false;
+        private double ratePerSecond = 100;
+        private int burst = 200;
+        private long maximumClients = 100_000;
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.couponservice.api.reactive;
+
+import com.project.couponservice.api.dto.CreateCouponRequest;
+import com.project.couponservice.api.dto.CreateCouponResponse;
+import com.project.couponservice.api.dto.GetCouponResponse;
+import com.project.couponservice.api.dto.RedeemCouponResponse;
+import com.project.couponservice.api.exception.GlobalExceptionHandler;
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.ReactiveCreateCouponUseCase;
+import com.project.couponservice.application.delete.DeleteCouponCommand;
+import com.project.couponservice.application.delete.ReactiveDeleteCouponUseCase;
+import com.project.couponservice.application.get.GetCouponCommand;
+import com.project.couponservice.application.get.GetCouponOutput;
+import com.project.couponservice.application.get.ReactiveGetCouponUseCase;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.ReactiveRedeemCouponUseCase;
+import com.project.couponservice.domain.ConflictException;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.OverloadedException;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * Handlers of {@link CouponRouter}. Failures are answered by the {@link GlobalExceptionHandler} methods
+ * themselves, so status codes, bodies and rejection metrics are the same as in the servlet mode.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CouponHandler {
+
+    private final ReactiveGetCouponUseCase getCouponUseCase;
+    private final ReactiveCreateCouponUseCase createCouponUseCase;
+    private final ReactiveDeleteCouponUseCase deleteCouponUseCase;
+    private final ReactiveRedeemCouponUseCase redeemCouponUseCase;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final SpringValidatorAdapter validator;
+
+    public CouponHandler(ReactiveGetCouponUseCase getCouponUseCase,
+                         ReactiveCreateCouponUseCase createCouponUseCase,
+                         ReactiveDeleteCouponUseCase deleteCouponUseCase,
+                         ReactiveRedeemCouponUseCase redeemCouponUseCase,
+                         GlobalExceptionHandler exceptionHandler,
+                         Validator validator) {
+        this.getCouponUseCase = getCouponUseCase;
+        this.createCouponUseCase = createCouponUseCase;
+        this.deleteCouponUseCase = deleteCouponUseCase;
+        this.redeemCouponUseCase = redeemCouponUseCase;
+        this.exceptionHandler = exceptionHandler;
+        this.validator = new SpringValidatorAdapter(validator);
+    }
+
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        return Mono.fromSupplier(() -> new GetCouponCommand(id(request)))
+                .flatMap(getCouponUseCase::execute)
+                .flatMap(output -> ServerResponse.ok().bodyValue(toResponse(output)))
+                .onErrorResume(this::error);
+    }
+
+    public Mono<ServerResponse> create(ServerRequest request) {
+        return request.bodyToMono(CreateCouponRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")))
+                .flatMap(body -> {
+                    BindingResult errors = new BeanPropertyBindingResult(body, "createCouponRequest");
+                    validator.validate(body, errors);
+                    if (errors.hasErrors()) {
+                        return toServerResponse(exceptionHandler.handleInvalidFields(errors));
+                    }
+                    return createCouponUseCase.execute(new CreateCouponCommand(body.getCode(), body.getDescription(),
+                                    body.getDiscountValue(), body.getExpirationDate(), body.isPublished(),
+                                    body.getMaxRedemptions()))
+                            .flatMap(output -> ServerResponse.status(HttpStatus.CREATED)
+                                    .bodyValue(new CreateCouponResponse(output.id(), output.code(),
+                                            output.expirationDate())));
+                })
+                .onErrorResume(this::error);
+    }
+
+    public Mono<ServerResponse> delete(ServerRequest request) {
+        return Mono.fromSupplier(() -> new DeleteCouponCommand(id(request)))
+                .flatMap(deleteCouponUseCase::execute)
+                .flatMap(output -> ServerResponse.noContent().build())
+                .onErrorResume(this::error);
+    }
+
+    public Mono<ServerResponse> redeem(ServerRequest request) {
+        return Mono.fromSupplier(() -> new RedeemCouponCommand(id(request)))
+                .flatMap(redeemCouponUseCase::execute)
+                .flatMap(output -> ServerResponse.ok().bodyValue(new RedeemCouponResponse(output.id(),
+                        output.redeemed())))
+                .onErrorResume(this::error);
+    }
+
+    private Mono<ServerResponse> error(Throwable ex) {
+        if (ex instanceof DomainException domainException) {
+            return toServerResponse(exceptionHandler.handleDomainException(domainException));
+        }
+        if (ex instanceof NotFoundException notFoundException) {
+            return toServerResponse(exceptionHandler.handleNotFoundException(notFoundException));
+        }
+        if (ex instanceof ConflictException conflictException) {
+            return toServerResponse(exceptionHandler.handleConflictException(conflictException));
+        }
+        if (ex instanceof OverloadedException overloadedException) {
+            return toServerResponse(exceptionHandler.handleOverloadedException(overloadedException));
+        }
+        return Mono.error(ex);
+    }
+
+    private static Mono<ServerResponse> toServerResponse(ResponseEntity<?> response) {
+        return ServerResponse.status(response.getStatusCode())
+                .headers(headers -> headers.addAll(response.getHeaders()))
+                .bodyValue(response.getBody());
+    }
+
+    private static Long id(ServerRequest request) {
+        try {
+            return Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException ex) {
+            throw new ServerWebInputException("Invalid coupon id");
+        }
+    }
+
+    private static GetCouponResponse toResponse(GetCouponOutput output) {
+        return new GetCouponResponse(output.id(), output.code(), output.description(), output.discountValue(),
+                output.expirationDate(), output.status(), output.published(), output.deleted(),
+                output.maxRedemptions(), output.redeemedCount());
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.couponservice.api.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Routes of {@link com.project.couponservice.api.CouponController} that have a non-blocking use case.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CouponRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> couponRoutes(CouponHandler handler) {
+        return RouterFunctions.route()
+                .GET("/coupons/{id:\\d+}", handler::getById)
+                .POST("/coupons", handler::create)
+                .DELETE("/coupons/{id:\\d+}", handler::delete)
+                .POST("/coupons/{id:\\d+}/redeem", handler::redeem)
+                .build();
+    }
+}
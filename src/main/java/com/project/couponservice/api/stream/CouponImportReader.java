@@ -0,0 +1,175 @@
+package com.project.couponservice.api.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.couponservice.api.dto.CreateCouponRequest;
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.imports.ImportCouponLine;
+import com.project.couponservice.domain.DomainException;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an upload one line at a time (CSV with a header row, or NDJSON with one
+ * {@link CreateCouponRequest} per line). Lines that cannot be parsed are returned as errors instead
+ * of aborting the import.
+ */
+public class CouponImportReader implements Iterator<ImportCouponLine> {
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+
+    private static final List<String> REQUIRED_CSV_COLUMNS =
+            List.of("code", "description", "discountvalue", "expirationdate");
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> csvColumns;
+    private long lineNumber;
+    private String pending;
+
+    private CouponImportReader(BufferedReader reader, ObjectMapper objectMapper, Map<String, Integer> csvColumns,
+                               long lineNumber) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.csvColumns = csvColumns;
+        this.lineNumber = lineNumber;
+    }
+
+    public static CouponImportReader open(InputStream body, MediaType contentType, ObjectMapper objectMapper)
+            throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+        if (!contentType.isCompatibleWith(MediaType.parseMediaType(CSV_MEDIA_TYPE))) {
+            return new CouponImportReader(reader, objectMapper, null, 0);
+        }
+
+        String header = reader.readLine();
+        if (header == null) {
+            throw new DomainException("O arquivo CSV deve conter uma linha de cabeçalho.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_CSV_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new DomainException("O cabeçalho CSV deve conter as colunas code, description, "
+                        + "discountValue e expirationDate.");
+            }
+        }
+        return new CouponImportReader(reader, objectMapper, columns, 1);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (pending == null) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    pending = line;
+                }
+            }
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public ImportCouponLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = pending;
+        pending = null;
+        return csvColumns != null ? parseCsv(line) : parseNdjson(line);
+    }
+
+    private ImportCouponLine parseNdjson(String line) {
+        try {
+            CreateCouponRequest request = objectMapper.readValue(line, CreateCouponRequest.class);
+            return ImportCouponLine.parsed(lineNumber, new CreateCouponCommand(request.getCode(),
+                    request.getDescription(), request.getDiscountValue(), request.getExpirationDate(),
+                    request.isPublished(), request.getMaxRedemptions()));
+        } catch (JsonProcessingException ex) {
+            return ImportCouponLine.unreadable(lineNumber, null, "JSON inválido: " + ex.getOriginalMessage());
+        }
+    }
+
+    private ImportCouponLine parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        try {
+            String published = column(values, "published");
+            String maxRedemptions = column(values, "maxredemptions");
+            return ImportCouponLine.parsed(lineNumber, new CreateCouponCommand(
+                    column(values, "code"),
+                    column(values, "description"),
+                    new BigDecimal(column(values, "discountvalue").trim()),
+                    LocalDateTime.parse(column(values, "expirationdate").trim()),
+                    published != null && Boolean.parseBoolean(published.trim()),
+                    maxRedemptions == null || maxRedemptions.isBlank()
+                            ? null
+                            : Integer.valueOf(maxRedemptions.trim())));
+        } catch (RuntimeException ex) {
+            return ImportCouponLine.unreadable(lineNumber, column(values, "code"),
+                    "Linha CSV inválida: " + ex.getMessage());
+        }
+    }
+
+    private String column(List<String> values, String name) {
+        Integer position = csvColumns.get(name);
+        if (position == null || position >= values.size()) {
+            return null;
+        }
+        return values.get(position);
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
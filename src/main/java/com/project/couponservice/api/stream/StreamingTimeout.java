@@ -0,0 +1,44 @@
+package com.project.couponservice.api.stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Gives a single streaming request a longer async timeout than {@code spring.mvc.async.request-timeout}, so a
+ * large export or import is not cut off while every other async request keeps the global default.
+ */
+@Component
+public class StreamingTimeout {
+
+    private static final String INTERCEPTOR_KEY = StreamingTimeout.class.getName();
+
+    private final long timeoutMillis;
+
+    public StreamingTimeout(@Value("${coupon.stream.request-timeout:1h}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Must be called by the handler before it returns the {@code StreamingResponseBody}; the timeout is applied
+     * when the request goes async.
+     */
+    public void extend(WebRequest request) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(INTERCEPTOR_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest asyncRequest, Callable<T> task) {
+                        if (asyncRequest instanceof AsyncWebRequest asyncWebRequest) {
+                            asyncWebRequest.setTimeout(timeoutMillis);
+                        }
+                    }
+                });
+    }
+}
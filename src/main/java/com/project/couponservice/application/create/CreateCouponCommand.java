@@ -4,6 +4,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public record CreateCouponCommand(String code, String description, BigDecimal discountValue,
-                                  LocalDateTime expirationDate, boolean published) {
+                                  LocalDateTime expirationDate, boolean published, Integer maxRedemptions) {
 
+    public CreateCouponCommand(String code, String description, BigDecimal discountValue,
+                               LocalDateTime expirationDate, boolean published) {
+        this(code, description, discountValue, expirationDate, published, null);
+    }
 }
\ No newline at end of file
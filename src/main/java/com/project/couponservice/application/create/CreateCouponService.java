@@ -2,26 +2,35 @@ package com.project.couponservice.application.create;
 
 import com.project.couponservice.domain.Coupon;
 import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.RejectionReason;
 import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSnapshotPort;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "create"}, histogram = true)
 public class CreateCouponService implements CreateCouponUseCase {
 
     private final CouponPort couponPort;
+    private final CouponSnapshotPort couponSnapshotPort;
 
     @Override
     public CreateCouponOutput execute(CreateCouponCommand command) {
         Coupon coupon = Coupon.newCoupon(command.code(), command.description(), command.discountValue(),
-                command.expirationDate(), command.published());
+                command.expirationDate(), command.published(), command.maxRedemptions());
 
-        couponPort.findByCode(coupon.getCode()).ifPresent(existing -> {
-            throw new DomainException("Já existe cupom cadastrado com o código informado.");
-        });
+        // A pre-check only: codes it misses are rejected by the unique key on save.
+        if (!couponPort.findPossiblyExistingCodes(List.of(coupon.getCode())).isEmpty()) {
+            throw DomainException.rejected(RejectionReason.DUPLICATE_CODE);
+        }
 
         Coupon saved = couponPort.save(coupon);
+        couponSnapshotPort.refresh(saved);
         return new CreateCouponOutput(saved.getId(), saved.getCode(), saved.getExpirationDate());
     }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.project.couponservice.application.create;
+
+import java.util.List;
+
+public record CreateCouponsBatchCommand(List<CreateCouponCommand> coupons) {
+}
@@ -0,0 +1,16 @@
+package com.project.couponservice.application.create;
+
+public record CreateCouponsBatchItemOutput(int index, Long id, String code, String error) {
+
+    public static CreateCouponsBatchItemOutput created(int index, Long id, String code) {
+        return new CreateCouponsBatchItemOutput(index, id, code, null);
+    }
+
+    public static CreateCouponsBatchItemOutput failed(int index, String code, String error) {
+        return new CreateCouponsBatchItemOutput(index, null, code, error);
+    }
+
+    public boolean isCreated() {
+        return error == null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.project.couponservice.application.create;
+
+import java.util.List;
+
+public record CreateCouponsBatchOutput(int created, int failed, List<CreateCouponsBatchItemOutput> items) {
+}
@@ -0,0 +1,115 @@
+package com.project.couponservice.application.create;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSnapshotPort;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "create-batch"}, histogram = true)
+public class CreateCouponsBatchService implements CreateCouponsBatchUseCase {
+
+    private final CouponPort couponPort;
+    private final CouponSnapshotPort couponSnapshotPort;
+
+    @Value("${coupon.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public CreateCouponsBatchOutput execute(CreateCouponsBatchCommand command) {
+        List<CreateCouponCommand> commands = command.coupons();
+        CreateCouponsBatchItemOutput[] results = new CreateCouponsBatchItemOutput[commands.size()];
+        Set<String> codesInBatch = new HashSet<>();
+
+        for (int start = 0; start < commands.size(); start += chunkSize) {
+            createChunk(commands, start, Math.min(start + chunkSize, commands.size()), codesInBatch, results);
+        }
+
+        int created = 0;
+        for (CreateCouponsBatchItemOutput result : results) {
+            if (result.isCreated()) {
+                created++;
+            }
+        }
+        return new CreateCouponsBatchOutput(created, results.length - created, Arrays.asList(results));
+    }
+
+    private void createChunk(List<CreateCouponCommand> commands, int start, int end, Set<String> codesInBatch,
+                             CreateCouponsBatchItemOutput[] results) {
+        List<Coupon> candidates = new ArrayList<>(end - start);
+        List<Integer> positions = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            CreateCouponCommand item = commands.get(i);
+            if (item == null) {
+                results[i] = CreateCouponsBatchItemOutput.failed(i, null, "O cupom do lote não pode ser nulo.");
+                continue;
+            }
+            try {
+                Coupon coupon = Coupon.newCoupon(item.code(), item.description(), item.discountValue(),
+                        item.expirationDate(), item.published(), item.maxRedemptions());
+                if (codesInBatch.add(coupon.getCode())) {
+                    candidates.add(coupon);
+                    positions.add(i);
+                } else {
+                    results[i] = CreateCouponsBatchItemOutput.failed(i, coupon.getCode(),
+                            "Código repetido no lote.");
+                }
+            } catch (DomainException ex) {
+                results[i] = CreateCouponsBatchItemOutput.failed(i, item.code(), ex.getMessage());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = couponPort.findPossiblyExistingCodes(candidates.stream().map(Coupon::getCode).toList());
+        List<Coupon> toSave = new ArrayList<>(candidates.size());
+        List<Integer> toSavePositions = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Coupon coupon = candidates.get(i);
+            if (existing.contains(coupon.getCode())) {
+                results[positions.get(i)] = CreateCouponsBatchItemOutput.failed(positions.get(i), coupon.getCode(),
+                        "Já existe cupom cadastrado com o código informado.");
+            } else {
+                toSave.add(coupon);
+                toSavePositions.add(positions.get(i));
+            }
+        }
+        if (toSave.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Coupon> saved = couponPort.saveAll(toSave);
+            for (int i = 0; i < saved.size(); i++) {
+                couponSnapshotPort.refresh(saved.get(i));
+                results[toSavePositions.get(i)] = CreateCouponsBatchItemOutput.created(toSavePositions.get(i),
+                        saved.get(i).getId(), saved.get(i).getCode());
+            }
+        } catch (DomainException ex) {
+            // A code was taken concurrently: the chunk was rolled back, so save item by item to attribute it.
+            for (int i = 0; i < toSave.size(); i++) {
+                int position = toSavePositions.get(i);
+                try {
+                    Coupon saved = couponPort.save(toSave.get(i));
+                    couponSnapshotPort.refresh(saved);
+                    results[position] = CreateCouponsBatchItemOutput.created(position, saved.getId(), saved.getCode());
+                } catch (DomainException itemEx) {
+                    results[position] = CreateCouponsBatchItemOutput.failed(position, toSave.get(i).getCode(),
+                            itemEx.getMessage());
+                }
+            }
+        }
+    }
+}
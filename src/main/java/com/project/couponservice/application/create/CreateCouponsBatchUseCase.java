@@ -0,0 +1,5 @@
+package com.project.couponservice.application.create;
+
+public interface CreateCouponsBatchUseCase {
+    CreateCouponsBatchOutput execute(CreateCouponsBatchCommand command);
+}
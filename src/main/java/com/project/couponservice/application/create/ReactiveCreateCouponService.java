@@ -0,0 +1,29 @@
+package com.project.couponservice.application.create;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.ReactiveCouponPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCreateCouponService implements ReactiveCreateCouponUseCase {
+
+    private final ReactiveCouponPort couponPort;
+
+    @Override
+    public Mono<CreateCouponOutput> execute(CreateCouponCommand command) {
+        return Mono.fromSupplier(() -> Coupon.newCoupon(command.code(), command.description(),
+                        command.discountValue(), command.expirationDate(), command.published(),
+                        command.maxRedemptions()))
+                .flatMap(coupon -> couponPort.findByCode(coupon.getCode())
+                        .flatMap(existing -> Mono.<Coupon>error(DomainException.rejected(RejectionReason.DUPLICATE_CODE)))
+                        .switchIfEmpty(Mono.defer(() -> couponPort.save(coupon))))
+                .map(saved -> new CreateCouponOutput(saved.getId(), saved.getCode(), saved.getExpirationDate()));
+    }
+}
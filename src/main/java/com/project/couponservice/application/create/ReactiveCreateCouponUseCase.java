@@ -0,0 +1,7 @@
+package com.project.couponservice.application.create;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCreateCouponUseCase {
+    Mono<CreateCouponOutput> execute(CreateCouponCommand command);
+}
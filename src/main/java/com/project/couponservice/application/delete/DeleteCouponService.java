@@ -1,25 +1,34 @@
 package com.project.couponservice.application.delete;
 
+import com.project.couponservice.application.retry.ConflictRetry;
 import com.project.couponservice.domain.Coupon;
 import com.project.couponservice.domain.NotFoundException;
 import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSnapshotPort;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "delete"}, histogram = true)
 public class DeleteCouponService implements DeleteCouponUseCase {
 
     private final CouponPort couponPort;
+    private final CouponSnapshotPort couponSnapshotPort;
+    private final ConflictRetry conflictRetry;
 
     @Override
     public DeleteCouponOutput execute(DeleteCouponCommand command) {
         Long couponId = command.id();
-        Coupon coupon = couponPort.findById(couponId)
-                .orElseThrow(() -> new NotFoundException("Cupom com id " + couponId + " não encontrado"));
+        Coupon updated = conflictRetry.execute(() -> {
+            Coupon coupon = couponPort.findById(couponId)
+                    .orElseThrow(NotFoundException::coupon);
 
-        coupon.delete();
-        Coupon updated = couponPort.update(coupon);
+            coupon.delete();
+            return couponPort.update(coupon);
+        });
+        couponSnapshotPort.refresh(updated);
         return new DeleteCouponOutput(updated.getId());
     }
 }
\ No newline at end of file
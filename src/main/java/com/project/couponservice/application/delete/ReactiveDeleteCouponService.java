@@ -0,0 +1,30 @@
+package com.project.couponservice.application.delete;
+
+import com.project.couponservice.application.retry.ConflictRetry;
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.ports.ReactiveCouponPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveDeleteCouponService implements ReactiveDeleteCouponUseCase {
+
+    private final ReactiveCouponPort couponPort;
+    private final ConflictRetry conflictRetry;
+
+    @Override
+    public Mono<DeleteCouponOutput> execute(DeleteCouponCommand command) {
+        Long couponId = command.id();
+        return conflictRetry.execute(couponPort.findById(couponId)
+                        .switchIfEmpty(Mono.error(NotFoundException::coupon))
+                        .flatMap(coupon -> {
+                            coupon.delete();
+                            return couponPort.update(coupon);
+                        }))
+                .map(updated -> new DeleteCouponOutput(updated.getId()));
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.couponservice.application.delete;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveDeleteCouponUseCase {
+    Mono<DeleteCouponOutput> execute(DeleteCouponCommand command);
+}
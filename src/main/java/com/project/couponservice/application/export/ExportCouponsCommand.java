@@ -0,0 +1,7 @@
+package com.project.couponservice.application.export;
+
+import java.time.LocalDateTime;
+
+public record ExportCouponsCommand(Boolean published, Boolean deleted, LocalDateTime expirationFrom,
+                                   LocalDateTime expirationTo) {
+}
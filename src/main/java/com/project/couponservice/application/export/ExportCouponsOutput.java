@@ -0,0 +1,4 @@
+package com.project.couponservice.application.export;
+
+public record ExportCouponsOutput(long exported) {
+}
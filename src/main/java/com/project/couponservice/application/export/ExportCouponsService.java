@@ -0,0 +1,44 @@
+package com.project.couponservice.application.export;
+
+import com.project.couponservice.application.get.GetCouponOutput;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponPort;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "export"}, histogram = true)
+public class ExportCouponsService implements ExportCouponsUseCase {
+
+    private final CouponPort couponPort;
+
+    @Value("${coupon.export.page-size:1000}")
+    private int pageSize;
+
+    @Override
+    public ExportCouponsOutput execute(ExportCouponsCommand command, Consumer<GetCouponOutput> sink) {
+        CouponFilter filter = new CouponFilter(command.published(), command.deleted(), command.expirationFrom(),
+                command.expirationTo());
+        LocalDateTime now = LocalDateTime.now();
+        long exported = 0;
+        Long afterId = null;
+        List<Coupon> page;
+        do {
+            page = couponPort.scan(filter, afterId, pageSize);
+            for (Coupon coupon : page) {
+                sink.accept(GetCouponOutput.from(coupon, now));
+                afterId = coupon.getId();
+            }
+            exported += page.size();
+        } while (page.size() == pageSize);
+        return new ExportCouponsOutput(exported);
+    }
+}
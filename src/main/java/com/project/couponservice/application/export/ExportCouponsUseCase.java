@@ -0,0 +1,9 @@
+package com.project.couponservice.application.export;
+
+import com.project.couponservice.application.get.GetCouponOutput;
+
+import java.util.function.Consumer;
+
+public interface ExportCouponsUseCase {
+    ExportCouponsOutput execute(ExportCouponsCommand command, Consumer<GetCouponOutput> sink);
+}
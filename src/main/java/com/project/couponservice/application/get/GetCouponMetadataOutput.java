@@ -0,0 +1,41 @@
+package com.project.couponservice.application.get;
+
+import com.project.couponservice.domain.CouponStatus;
+import com.project.couponservice.domain.ports.CouponMetadata;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a client needs to revalidate its copy of a coupon. {@code lastModified} is the expiration date once
+ * the coupon expired after its last write, since the status changed at that moment without any write.
+ */
+public record GetCouponMetadataOutput(
+        Long id,
+        Long version,
+        LocalDateTime updatedAt,
+        LocalDateTime lastModified,
+        String status
+) {
+
+    public static GetCouponMetadataOutput from(CouponMetadata metadata, LocalDateTime now) {
+        CouponStatus status = metadata.statusAt(now);
+        return new GetCouponMetadataOutput(metadata.id(), metadata.version(), metadata.updatedAt(),
+                lastModified(status, metadata.updatedAt(), metadata.expirationDate()), status.name());
+    }
+
+    /**
+     * The same validators, taken from a coupon that was loaded anyway.
+     */
+    public static GetCouponMetadataOutput from(GetCouponOutput coupon) {
+        CouponStatus status = CouponStatus.valueOf(coupon.status());
+        return new GetCouponMetadataOutput(coupon.id(), coupon.version(), coupon.updatedAt(),
+                lastModified(status, coupon.updatedAt(), coupon.expirationDate()), coupon.status());
+    }
+
+    private static LocalDateTime lastModified(CouponStatus status, LocalDateTime updatedAt, LocalDateTime expirationDate) {
+        if (status == CouponStatus.EXPIRED && expirationDate.isAfter(updatedAt)) {
+            return expirationDate;
+        }
+        return updatedAt;
+    }
+}
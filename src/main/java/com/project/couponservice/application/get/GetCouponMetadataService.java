@@ -0,0 +1,27 @@
+package com.project.couponservice.application.get;
+
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.ports.CouponMetadata;
+import com.project.couponservice.domain.ports.CouponPort;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "get-metadata"}, histogram = true)
+public class GetCouponMetadataService implements GetCouponMetadataUseCase {
+
+    private final CouponPort couponPort;
+
+    @Override
+    public GetCouponMetadataOutput execute(GetCouponCommand command) {
+        Long couponId = command.id();
+        CouponMetadata metadata = couponPort.findMetadata(couponId)
+                .orElseThrow(NotFoundException::coupon);
+
+        return GetCouponMetadataOutput.from(metadata, LocalDateTime.now());
+    }
+}
@@ -1,5 +1,7 @@
 package com.project.couponservice.application.get;
 
+import com.project.couponservice.domain.Coupon;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -11,6 +13,27 @@ public record GetCouponOutput(
         LocalDateTime expirationDate,
         String status,
         boolean published,
-        boolean deleted
+        boolean deleted,
+        Integer maxRedemptions,
+        int redeemedCount,
+        Long version,
+        LocalDateTime updatedAt
 ) {
+
+    public static GetCouponOutput from(Coupon coupon, LocalDateTime now) {
+        return new GetCouponOutput(
+                coupon.getId(),
+                coupon.getCode(),
+                coupon.getDescription(),
+                coupon.getDiscountValue(),
+                coupon.getExpirationDate(),
+                coupon.statusAt(now).name(),
+                coupon.isPublished(),
+                coupon.isDeleted(),
+                coupon.getMaxRedemptions(),
+                coupon.getRedeemedCount(),
+                coupon.getVersion(),
+                coupon.getUpdatedAt()
+        );
+    }
 }
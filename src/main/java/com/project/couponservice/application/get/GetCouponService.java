@@ -3,6 +3,7 @@ package com.project.couponservice.application.get;
 import com.project.couponservice.domain.Coupon;
 import com.project.couponservice.domain.NotFoundException;
 import com.project.couponservice.domain.ports.CouponPort;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "get"}, histogram = true)
 public class GetCouponService implements GetCouponUseCase {
 
     private final CouponPort couponPort;
@@ -18,27 +20,8 @@ public class GetCouponService implements GetCouponUseCase {
     public GetCouponOutput execute(GetCouponCommand command) {
         Long couponId = command.id();
         Coupon coupon = couponPort.findById(couponId)
-                .orElseThrow(() -> new NotFoundException("Cupom com id " + couponId + " não encontrado"));
+                .orElseThrow(NotFoundException::coupon);
 
-        return new GetCouponOutput(
-                coupon.getId(),
-                coupon.getCode(),
-                coupon.getDescription(),
-                coupon.getDiscountValue(),
-                coupon.getExpirationDate(),
-                resolveStatus(coupon),
-                coupon.isPublished(),
-                coupon.isDeleted()
-        );
-    }
-
-    private String resolveStatus(Coupon coupon) {
-        if (coupon.isDeleted()) {
-            return "DELETED";
-        }
-        if (coupon.isExpired(LocalDateTime.now())) {
-            return "EXPIRED";
-        }
-        return "ACTIVE";
+        return GetCouponOutput.from(coupon, LocalDateTime.now());
     }
 }
@@ -0,0 +1,6 @@
+package com.project.couponservice.application.get;
+
+import java.util.List;
+
+public record GetCouponsCommand(List<Long> ids, List<String> codes) {
+}
@@ -0,0 +1,6 @@
+package com.project.couponservice.application.get;
+
+import java.util.List;
+
+public record GetCouponsOutput(List<GetCouponOutput> coupons, List<String> notFound) {
+}
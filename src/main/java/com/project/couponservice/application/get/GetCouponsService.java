@@ -0,0 +1,78 @@
+package com.project.couponservice.application.get;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.CouponCode;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.ports.CouponPort;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "get-many"}, histogram = true)
+public class GetCouponsService implements GetCouponsUseCase {
+
+    static final int MAX_KEYS = 500;
+
+    private final CouponPort couponPort;
+
+    @Override
+    public GetCouponsOutput execute(GetCouponsCommand command) {
+        List<Long> ids = command.ids() != null ? command.ids() : List.of();
+        List<String> codes = command.codes() != null ? command.codes() : List.of();
+        if (ids.size() + codes.size() > MAX_KEYS) {
+            throw new DomainException("É possível consultar no máximo " + MAX_KEYS + " cupons por vez.");
+        }
+        if (ids.stream().anyMatch(Objects::isNull) || codes.stream().anyMatch(Objects::isNull)) {
+            throw new DomainException("Os identificadores e códigos consultados não podem ser nulos.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<GetCouponOutput> coupons = new ArrayList<>(ids.size() + codes.size());
+        List<String> notFound = new ArrayList<>();
+
+        if (!ids.isEmpty()) {
+            Map<Long, Coupon> byId = new HashMap<>();
+            for (Coupon coupon : couponPort.findAllByIds(ids)) {
+                byId.put(coupon.getId(), coupon);
+            }
+            for (Long id : ids) {
+                Coupon coupon = byId.get(id);
+                if (coupon != null) {
+                    coupons.add(GetCouponOutput.from(coupon, now));
+                } else {
+                    notFound.add(String.valueOf(id));
+                }
+            }
+        }
+
+        if (!codes.isEmpty()) {
+            List<String> normalized = new ArrayList<>(codes.size());
+            for (String code : codes) {
+                long packedCode = CouponCode.encode(code);
+                normalized.add(packedCode == CouponCode.INVALID ? null : CouponCode.decode(packedCode));
+            }
+            Map<String, Coupon> byCode = new HashMap<>();
+            for (Coupon coupon : couponPort.findAllByCodes(normalized.stream().filter(Objects::nonNull).toList())) {
+                byCode.put(coupon.getCode(), coupon);
+            }
+            for (int i = 0; i < codes.size(); i++) {
+                Coupon coupon = normalized.get(i) != null ? byCode.get(normalized.get(i)) : null;
+                if (coupon != null) {
+                    coupons.add(GetCouponOutput.from(coupon, now));
+                } else {
+                    notFound.add(codes.get(i));
+                }
+            }
+        }
+        return new GetCouponsOutput(coupons, notFound);
+    }
+}
@@ -0,0 +1,5 @@
+package com.project.couponservice.application.get;
+
+public interface GetCouponsUseCase {
+    GetCouponsOutput execute(GetCouponsCommand command);
+}
@@ -0,0 +1,26 @@
+package com.project.couponservice.application.get;
+
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.ports.ReactiveCouponPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGetCouponService implements ReactiveGetCouponUseCase {
+
+    private final ReactiveCouponPort couponPort;
+
+    @Override
+    public Mono<GetCouponOutput> execute(GetCouponCommand command) {
+        Long couponId = command.id();
+        return couponPort.findById(couponId)
+                .switchIfEmpty(Mono.error(NotFoundException::coupon))
+                .map(coupon -> GetCouponOutput.from(coupon, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.couponservice.application.get;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveGetCouponUseCase {
+    Mono<GetCouponOutput> execute(GetCouponCommand command);
+}
@@ -0,0 +1,14 @@
+package com.project.couponservice.application.imports;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+
+public record ImportCouponLine(long lineNumber, String code, CreateCouponCommand command, String error) {
+
+    public static ImportCouponLine parsed(long lineNumber, CreateCouponCommand command) {
+        return new ImportCouponLine(lineNumber, command.code(), command, null);
+    }
+
+    public static ImportCouponLine unreadable(long lineNumber, String code, String error) {
+        return new ImportCouponLine(lineNumber, code, null, error);
+    }
+}
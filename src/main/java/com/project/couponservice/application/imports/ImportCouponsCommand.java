@@ -0,0 +1,6 @@
+package com.project.couponservice.application.imports;
+
+import java.util.Iterator;
+
+public record ImportCouponsCommand(Iterator<ImportCouponLine> lines) {
+}
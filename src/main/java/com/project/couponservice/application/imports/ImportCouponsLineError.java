@@ -0,0 +1,4 @@
+package com.project.couponservice.application.imports;
+
+public record ImportCouponsLineError(long lineNumber, String code, String error) {
+}
@@ -0,0 +1,4 @@
+package com.project.couponservice.application.imports;
+
+public record ImportCouponsOutput(long total, long created, long failed) {
+}
@@ -0,0 +1,72 @@
+package com.project.couponservice.application.imports;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchItemOutput;
+import com.project.couponservice.application.create.CreateCouponsBatchOutput;
+import com.project.couponservice.application.create.CreateCouponsBatchUseCase;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Pulls lines only as fast as the previous chunk is persisted, so the database paces the upload and
+ * at most one chunk of lines is held in memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "import"}, histogram = true)
+public class ImportCouponsService implements ImportCouponsUseCase {
+
+    private final CreateCouponsBatchUseCase createCouponsBatchUseCase;
+
+    @Value("${coupon.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public ImportCouponsOutput execute(ImportCouponsCommand command, Consumer<ImportCouponsLineError> errorSink) {
+        Iterator<ImportCouponLine> lines = command.lines();
+        List<ImportCouponLine> chunk = new ArrayList<>(chunkSize);
+        long total = 0;
+        long created = 0;
+
+        while (lines.hasNext()) {
+            ImportCouponLine line = lines.next();
+            total++;
+            if (line.error() != null) {
+                errorSink.accept(new ImportCouponsLineError(line.lineNumber(), line.code(), line.error()));
+                continue;
+            }
+            chunk.add(line);
+            if (chunk.size() == chunkSize) {
+                created += importChunk(chunk, errorSink);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += importChunk(chunk, errorSink);
+        }
+        return new ImportCouponsOutput(total, created, total - created);
+    }
+
+    private int importChunk(List<ImportCouponLine> chunk, Consumer<ImportCouponsLineError> errorSink) {
+        List<CreateCouponCommand> commands = new ArrayList<>(chunk.size());
+        for (ImportCouponLine line : chunk) {
+            commands.add(line.command());
+        }
+        CreateCouponsBatchOutput output = createCouponsBatchUseCase.execute(new CreateCouponsBatchCommand(commands));
+        for (CreateCouponsBatchItemOutput item : output.items()) {
+            if (!item.isCreated()) {
+                ImportCouponLine line = chunk.get(item.index());
+                errorSink.accept(new ImportCouponsLineError(line.lineNumber(), item.code(), item.error()));
+            }
+        }
+        return output.created();
+    }
+}
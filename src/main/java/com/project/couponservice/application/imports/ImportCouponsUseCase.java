@@ -0,0 +1,7 @@
+package com.project.couponservice.application.imports;
+
+import java.util.function.Consumer;
+
+public interface ImportCouponsUseCase {
+    ImportCouponsOutput execute(ImportCouponsCommand command, Consumer<ImportCouponsLineError> errorSink);
+}
@@ -0,0 +1,40 @@
+package com.project.couponservice.application.redeem;
+
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.ReactiveCouponPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRedeemCouponService implements ReactiveRedeemCouponUseCase {
+
+    private final ReactiveCouponPort couponPort;
+
+    @Override
+    public Mono<RedeemCouponOutput> execute(RedeemCouponCommand command) {
+        Long couponId = command.id();
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            return couponPort.redeem(couponId, now).flatMap(redeemed -> {
+                if (redeemed) {
+                    return Mono.just(new RedeemCouponOutput(couponId, Boolean.TRUE));
+                }
+                // The conditional update matched no row: load the coupon only to report why it was rejected.
+                return couponPort.findById(couponId)
+                        .switchIfEmpty(Mono.error(NotFoundException::coupon))
+                        .flatMap(coupon -> {
+                            coupon.validateRedeem(now);
+                            return Mono.error(DomainException.rejected(RejectionReason.NOT_REDEEMED));
+                        });
+            });
+        });
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.couponservice.application.redeem;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRedeemCouponUseCase {
+    Mono<RedeemCouponOutput> execute(RedeemCouponCommand command);
+}
@@ -1,27 +1,54 @@
 package com.project.couponservice.application.redeem;
 
 import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
 import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.RejectionReason;
 import com.project.couponservice.domain.ports.CouponPort;
-import lombok.RequiredArgsConstructor;
+import com.project.couponservice.domain.ports.CouponRedemptionPort;
+import com.project.couponservice.domain.ports.CouponSnapshotPort;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
-@RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "redeem"}, histogram = true)
 public class RedeemCouponService implements RedeemCouponUseCase {
 
-    private final CouponPort couponPort;
+    private final CouponPort couponStore;
+    private final CouponRedemptionPort couponRedemptionPort;
+    private final CouponSnapshotPort couponSnapshotPort;
+
+    /**
+     * @param couponStore the store behind the read cache: a rejection is explained, and written to the
+     *                    snapshot, from the current row, never from a cached copy
+     */
+    public RedeemCouponService(@Qualifier("couponStore") CouponPort couponStore,
+                               CouponRedemptionPort couponRedemptionPort,
+                               CouponSnapshotPort couponSnapshotPort) {
+        this.couponStore = couponStore;
+        this.couponRedemptionPort = couponRedemptionPort;
+        this.couponSnapshotPort = couponSnapshotPort;
+    }
 
     @Override
     public RedeemCouponOutput execute(RedeemCouponCommand redeemCouponCommand) {
         Long couponId = redeemCouponCommand.id();
-        Coupon coupon = couponPort.findById(couponId)
-                .orElseThrow(() -> new NotFoundException("Cupom com id " + couponId + " não encontrado"));
+        LocalDateTime now = LocalDateTime.now();
+        if (couponRedemptionPort.redeem(couponId, now)) {
+            couponSnapshotPort.recordRedemption(couponId, now);
+            return new RedeemCouponOutput(couponId, Boolean.TRUE);
+        }
 
-        coupon.redeem();
+        // The conditional update matched no row: load the coupon only to report why it was rejected.
+        Coupon coupon = couponStore.findById(couponId)
+                .orElseThrow(NotFoundException::coupon);
 
-        Coupon saved = couponPort.save(coupon);
+        couponSnapshotPort.refresh(coupon);
+        coupon.validateRedeem(now);
 
-        return new RedeemCouponOutput(saved.getId(), Boolean.TRUE);
+        throw DomainException.rejected(RejectionReason.NOT_REDEEMED);
     }
 }
@@ -0,0 +1,105 @@
+package com.project.couponservice.application.retry;
+
+import com.project.couponservice.domain.ConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a read-modify-write that lost an optimistic-locking race. Waits a random time up to an exponentially
+ * growing cap between attempts (full jitter) and draws every retry from a shared budget that is refilled by
+ * {@code budget-ratio} per call, so a hot coupon cannot multiply the write load: once the budget is spent,
+ * conflicts go straight back to the caller.
+ */
+@Component
+public class ConflictRetry {
+
+    private static final long TOKEN = 1_000;
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long depositPerCall;
+    private final long budgetCapacity;
+    private final AtomicLong budget;
+
+    public ConflictRetry(@Value("${coupon.retry.max-attempts:4}") int maxAttempts,
+                         @Value("${coupon.retry.initial-backoff:5ms}") Duration initialBackoff,
+                         @Value("${coupon.retry.max-backoff:200ms}") Duration maxBackoff,
+                         @Value("${coupon.retry.budget-ratio:0.2}") double budgetRatio,
+                         @Value("${coupon.retry.budget-burst:100}") int budgetBurst) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.depositPerCall = Math.round(budgetRatio * TOKEN);
+        this.budgetCapacity = budgetBurst * TOKEN;
+        this.budget = new AtomicLong(budgetCapacity);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        deposit();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ConflictException ex) {
+                if (attempt >= maxAttempts || !withdrawRetry()) {
+                    throw ex;
+                }
+                backoff(attempt, ex);
+            }
+        }
+    }
+
+    /**
+     * Same policy for a cold {@link Mono}: it is re-subscribed after a conflict, and the wait is a timer
+     * instead of a sleeping thread.
+     */
+    public <T> Mono<T> execute(Mono<T> action) {
+        return Mono.defer(() -> {
+            deposit();
+            return action.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                int attempt = (int) signal.totalRetries() + 1;
+                if (!(signal.failure() instanceof ConflictException) || attempt >= maxAttempts || !withdrawRetry()) {
+                    return Mono.error(signal.failure());
+                }
+                return Mono.delay(Duration.ofNanos(backoffNanos(attempt)));
+            })));
+        });
+    }
+
+    private void deposit() {
+        budget.accumulateAndGet(depositPerCall, (balance, deposit) -> Math.min(budgetCapacity, balance + deposit));
+    }
+
+    private boolean withdrawRetry() {
+        long balance;
+        do {
+            balance = budget.get();
+            if (balance < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(balance, balance - TOKEN));
+        return true;
+    }
+
+    private long backoffNanos(int attempt) {
+        long cap = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private void backoff(int attempt, ConflictException conflict) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(backoffNanos(attempt));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
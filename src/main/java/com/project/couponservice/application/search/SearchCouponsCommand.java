@@ -0,0 +1,7 @@
+package com.project.couponservice.application.search;
+
+import java.time.LocalDateTime;
+
+public record SearchCouponsCommand(String status, Boolean published, LocalDateTime expirationFrom,
+                                   LocalDateTime expirationTo, String cursor, int limit) {
+}
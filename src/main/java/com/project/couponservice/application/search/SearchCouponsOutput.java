@@ -0,0 +1,8 @@
+package com.project.couponservice.application.search;
+
+import com.project.couponservice.application.get.GetCouponOutput;
+
+import java.util.List;
+
+public record SearchCouponsOutput(List<GetCouponOutput> coupons, String nextCursor) {
+}
@@ -0,0 +1,84 @@
+package com.project.couponservice.application.search;
+
+import com.project.couponservice.application.get.GetCouponOutput;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.CouponStatus;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "search"}, histogram = true)
+@Transactional(readOnly = true)
+public class SearchCouponsService implements SearchCouponsUseCase {
+
+    static final int MAX_LIMIT = 500;
+
+    private final CouponPort couponPort;
+
+    @Override
+    public SearchCouponsOutput execute(SearchCouponsCommand command) {
+        if (command.limit() < 1 || command.limit() > MAX_LIMIT) {
+            throw new DomainException("O limite da página deve estar entre 1 e " + MAX_LIMIT + ".");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        CouponFilter filter = toFilter(command, now);
+        CouponSearchCursor after = SearchCursorCodec.decode(command.cursor());
+
+        List<Coupon> page = couponPort.search(filter, after, command.limit() + 1);
+        boolean hasMore = page.size() > command.limit();
+        List<Coupon> coupons = hasMore ? page.subList(0, command.limit()) : page;
+
+        List<GetCouponOutput> outputs = new ArrayList<>(coupons.size());
+        for (Coupon coupon : coupons) {
+            outputs.add(GetCouponOutput.from(coupon, now));
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            Coupon last = coupons.get(coupons.size() - 1);
+            nextCursor = SearchCursorCodec.encode(new CouponSearchCursor(last.getExpirationDate(), last.getId()));
+        }
+        return new SearchCouponsOutput(outputs, nextCursor);
+    }
+
+    /**
+     * Translates the computed status into column predicates, mirroring {@link Coupon#statusAt}:
+     * DELETED wins, then EXPIRED means {@code expirationDate <= now}.
+     */
+    private CouponFilter toFilter(SearchCouponsCommand command, LocalDateTime now) {
+        LocalDateTime from = command.expirationFrom();
+        LocalDateTime to = command.expirationTo();
+        if (command.status() == null) {
+            return new CouponFilter(command.published(), null, from, to);
+        }
+        return switch (parseStatus(command.status())) {
+            case DELETED -> new CouponFilter(command.published(), true, from, to);
+            case EXPIRED -> new CouponFilter(command.published(), false, from,
+                    to == null || to.isAfter(now) ? now : to);
+            case ACTIVE -> {
+                LocalDateTime firstActive = now.plusNanos(1);
+                yield new CouponFilter(command.published(), false,
+                        from == null || from.isBefore(firstActive) ? firstActive : from, to);
+            }
+        };
+    }
+
+    private CouponStatus parseStatus(String status) {
+        try {
+            return CouponStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new DomainException("Status inválido. Use ACTIVE, EXPIRED ou DELETED.");
+        }
+    }
+}
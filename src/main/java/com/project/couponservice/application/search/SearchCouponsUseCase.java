@@ -0,0 +1,5 @@
+package com.project.couponservice.application.search;
+
+public interface SearchCouponsUseCase {
+    SearchCouponsOutput execute(SearchCouponsCommand command);
+}
@@ -0,0 +1,36 @@
+package com.project.couponservice.application.search;
+
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque cursor: URL-safe Base64 of {@code expirationDate|id} of the last coupon in the page.
+ */
+final class SearchCursorCodec {
+
+    private SearchCursorCodec() {
+    }
+
+    static String encode(CouponSearchCursor cursor) {
+        String raw = cursor.expirationDate() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CouponSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new CouponSearchCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new DomainException("Cursor de paginação inválido.");
+        }
+    }
+}
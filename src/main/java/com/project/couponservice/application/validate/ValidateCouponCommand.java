@@ -0,0 +1,4 @@
+package com.project.couponservice.application.validate;
+
+public record ValidateCouponCommand(Long id) {
+}
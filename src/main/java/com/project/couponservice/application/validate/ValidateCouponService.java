@@ -0,0 +1,24 @@
+package com.project.couponservice.application.validate;
+
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.CouponSnapshotPort;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "coupon.usecase", extraTags = {"usecase", "validate"}, histogram = true)
+public class ValidateCouponService implements ValidateCouponUseCase {
+
+    private final CouponSnapshotPort couponSnapshotPort;
+
+    @Override
+    public ValidateCouponOutput execute(ValidateCouponCommand command) {
+        Optional<RejectionReason> rejection = couponSnapshotPort.checkRedeem(command.id(), LocalDateTime.now());
+        return new ValidateCouponOutput(command.id(), rejection.isEmpty(), rejection.map(Enum::name).orElse(null));
+    }
+}
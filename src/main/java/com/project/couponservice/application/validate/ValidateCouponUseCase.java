@@ -0,0 +1,5 @@
+package com.project.couponservice.application.validate;
+
+public interface ValidateCouponUseCase {
+    ValidateCouponOutput execute(ValidateCouponCommand command);
+}
@@ -0,0 +1,7 @@
+package com.project.couponservice.domain;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
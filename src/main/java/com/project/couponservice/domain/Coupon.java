@@ -5,8 +5,7 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Locale;
-import java.util.Objects;
+import java.util.Optional;
 
 @Getter
 @Builder
@@ -21,6 +20,9 @@ public class Coupon {
     private boolean deleted;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer maxRedemptions;
+    private int redeemedCount;
+    private Long version;
 
     private Coupon(Long id,
                    String code,
@@ -30,7 +32,10 @@ public class Coupon {
                    boolean published,
                    boolean deleted,
                    LocalDateTime createdAt,
-                   LocalDateTime updatedAt) {
+                   LocalDateTime updatedAt,
+                   Integer maxRedemptions,
+                   int redeemedCount,
+                   Long version) {
         this.id = id;
         this.code = code;
         this.description = description;
@@ -40,6 +45,9 @@ public class Coupon {
         this.deleted = deleted;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.maxRedemptions = maxRedemptions;
+        this.redeemedCount = redeemedCount;
+        this.version = version;
     }
 
     public static Coupon newCoupon(String rawCode,
@@ -47,31 +55,49 @@ public class Coupon {
                                    BigDecimal discountValue,
                                    LocalDateTime expirationDate,
                                    boolean published) {
-        Objects.requireNonNull(rawCode, "O campo codigo não pode ser nulo");
-        Objects.requireNonNull(description, "O campo descricao não pode ser nulo");
-        Objects.requireNonNull(discountValue, "O campo valor desconto não pode ser nulo");
-        Objects.requireNonNull(expirationDate, "O campo valor data expiracao não pode ser nulo");
+        return newCoupon(rawCode, description, discountValue, expirationDate, published, null);
+    }
 
-        String sanitizedCode = sanitizeCode(rawCode);
+    public static Coupon newCoupon(String rawCode,
+                                   String description,
+                                   BigDecimal discountValue,
+                                   LocalDateTime expirationDate,
+                                   boolean published,
+                                   Integer maxRedemptions) {
+        ensureRequired(rawCode, "O campo codigo não pode ser nulo");
+        ensureRequired(description, "O campo descricao não pode ser nulo");
+        ensureRequired(discountValue, "O campo valor desconto não pode ser nulo");
+        ensureRequired(expirationDate, "O campo valor data expiracao não pode ser nulo");
+
+        long packedCode = CouponCode.encode(rawCode);
         LocalDateTime now = LocalDateTime.now();
-        validateCouponCreation(sanitizedCode, discountValue, expirationDate, now);
+        validateCouponCreation(packedCode, discountValue, expirationDate, maxRedemptions, now);
 
         return new Coupon(
                 null,
-                sanitizedCode.toUpperCase(Locale.ROOT),
+                CouponCode.decode(packedCode),
                 description,
                 discountValue,
                 expirationDate,
                 published,
                 false,
                 now,
-                now
+                now,
+                maxRedemptions,
+                0,
+                null
         );
     }
 
     public void redeem() {
-        validateRedeem(LocalDateTime.now());
-        this.published = true;
+        LocalDateTime now = LocalDateTime.now();
+        validateRedeem(now);
+        markRedeemed(now);
+    }
+
+    public void markRedeemed(LocalDateTime redeemedAt) {
+        this.redeemedCount++;
+        this.updatedAt = redeemedAt;
     }
 
     public static Coupon with(Long id,
@@ -82,18 +108,17 @@ public class Coupon {
                               boolean published,
                               boolean deleted,
                               LocalDateTime createdAt,
-                              LocalDateTime updatedAt) {
-        return new Coupon(id, code, description, discountValue, expirationDate, published, deleted, createdAt, updatedAt);
+                              LocalDateTime updatedAt,
+                              Integer maxRedemptions,
+                              int redeemedCount,
+                              Long version) {
+        return new Coupon(id, code, description, discountValue, expirationDate, published, deleted, createdAt,
+                updatedAt, maxRedemptions, redeemedCount, version);
     }
 
-    private static String sanitizeCode(String rawCode) {
-        StringBuilder builder = new StringBuilder();
-        for (char c : rawCode.toCharArray()) {
-            if (Character.isLetterOrDigit(c)) {
-                builder.append(c);
-            }
-        }
-        return builder.toString();
+    public Coupon copy() {
+        return new Coupon(id, code, description, discountValue, expirationDate, published, deleted, createdAt,
+                updatedAt, maxRedemptions, redeemedCount, version);
     }
 
     public void delete() {
@@ -106,25 +131,56 @@ public class Coupon {
         return !expirationDate.isAfter(referenceDateTime);
     }
 
-    private static void validateCouponCreation(String sanitizedCode,
+    public CouponStatus statusAt(LocalDateTime referenceDateTime) {
+        return CouponStatus.of(deleted, expirationDate, referenceDateTime);
+    }
+
+    public boolean hasReachedRedemptionLimit() {
+        return maxRedemptions != null && redeemedCount >= maxRedemptions;
+    }
+
+    private static void validateCouponCreation(long packedCode,
                                                BigDecimal discountValue,
                                                LocalDateTime expirationDate,
+                                               Integer maxRedemptions,
                                                LocalDateTime now) {
-        ensureValidCodeLength(sanitizedCode);
+        ensureValidCode(packedCode);
         ensureMinimumDiscount(discountValue);
+        ensureValidRedemptionLimit(maxRedemptions);
         ensureNotExpired(expirationDate, now,
                 "A data de validade deve ser maior que o dia de hoje.");
     }
 
-    private void validateRedeem(LocalDateTime now) {
-        ensureNotDeleted("O coupon foi delatado!");
-        ensurePublished();
-        ensureNotExpired(this.expirationDate, now,
-                "A data de validade do cupom deve ser maior que o dia de hoje.");
+    public Optional<RejectionReason> checkRedeem(LocalDateTime now) {
+        if (this.deleted) {
+            return Optional.of(RejectionReason.DELETED);
+        }
+        if (!this.published) {
+            return Optional.of(RejectionReason.UNPUBLISHED);
+        }
+        if (isExpired(now)) {
+            return Optional.of(RejectionReason.EXPIRED);
+        }
+        if (hasReachedRedemptionLimit()) {
+            return Optional.of(RejectionReason.LIMIT_REACHED);
+        }
+        return Optional.empty();
     }
 
-    private static void ensureValidCodeLength(String sanitizedCode) {
-        if (sanitizedCode.length() != 6) {
+    public void validateRedeem(LocalDateTime now) {
+        checkRedeem(now).ifPresent(reason -> {
+            throw DomainException.rejected(reason);
+        });
+    }
+
+    private static void ensureRequired(Object value, String message) {
+        if (value == null) {
+            throw new DomainException(message);
+        }
+    }
+
+    private static void ensureValidCode(long packedCode) {
+        if (packedCode == CouponCode.INVALID) {
             throw new DomainException("O código do cupom deve ser alfanumérico e ter exatamente 6 caracteres.");
         }
     }
@@ -135,23 +191,23 @@ public class Coupon {
         }
     }
 
+    private static void ensureValidRedemptionLimit(Integer maxRedemptions) {
+        if (maxRedemptions != null && maxRedemptions < 1) {
+            throw new DomainException("O limite de resgates deve ser maior que zero.");
+        }
+    }
+
     private static void ensureNotExpired(LocalDateTime expirationDate,
                                          LocalDateTime now,
                                          String message) {
         if (!expirationDate.isAfter(now)) {
-            throw new DomainException(message);
+            throw new DomainException(RejectionReason.EXPIRED, message);
         }
     }
 
     private void ensureNotDeleted(String message) {
         if (this.deleted) {
-            throw new DomainException(message);
-        }
-    }
-
-    private void ensurePublished() {
-        if (!this.published) {
-            throw new DomainException("O coupon não esta mais publicado!");
+            throw new DomainException(RejectionReason.DELETED, message);
         }
     }
 
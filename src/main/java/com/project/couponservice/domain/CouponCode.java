@@ -0,0 +1,90 @@
+package com.project.couponservice.domain;
+
+/**
+ * A sanitized coupon code packed into a {@code long}: exactly {@value #LENGTH} base-36 digits
+ * ({@code 0-9}, {@code A-Z}), so every valid code fits in {@code [0, 36^6)}.
+ * <p>
+ * {@link #encode(CharSequence)} drops non alphanumeric characters and upper-cases the rest without
+ * allocating. Only ASCII letters and digits can be packed; any other letter or digit makes the code invalid.
+ */
+public final class CouponCode {
+
+    public static final int LENGTH = 6;
+    public static final long INVALID = -1L;
+
+    private static final int RADIX = 36;
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private final long value;
+
+    private CouponCode(long value) {
+        this.value = value;
+    }
+
+    public static CouponCode of(String rawCode) {
+        long value = encode(rawCode);
+        if (value == INVALID) {
+            throw new DomainException("O código do cupom deve ser alfanumérico e ter exatamente 6 caracteres.");
+        }
+        return new CouponCode(value);
+    }
+
+    public static long encode(CharSequence rawCode) {
+        long value = 0;
+        int length = 0;
+        for (int i = 0; i < rawCode.length(); i++) {
+            char c = rawCode.charAt(i);
+            int digit = digit(c);
+            if (digit >= 0) {
+                if (++length > LENGTH) {
+                    return INVALID;
+                }
+                value = value * RADIX + digit;
+            } else if (Character.isLetterOrDigit(c)) {
+                return INVALID;
+            }
+        }
+        return length == LENGTH ? value : INVALID;
+    }
+
+    public static String decode(long value) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = DIGITS[(int) (value % RADIX)];
+            value /= RADIX;
+        }
+        return new String(chars);
+    }
+
+    public long value() {
+        return value;
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CouponCode code && code.value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return decode(value);
+    }
+}
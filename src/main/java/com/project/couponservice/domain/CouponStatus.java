@@ -0,0 +1,19 @@
+package com.project.couponservice.domain;
+
+import java.time.LocalDateTime;
+
+public enum CouponStatus {
+    ACTIVE,
+    EXPIRED,
+    DELETED;
+
+    public static CouponStatus of(boolean deleted, LocalDateTime expirationDate, LocalDateTime referenceDateTime) {
+        if (deleted) {
+            return DELETED;
+        }
+        if (!expirationDate.isAfter(referenceDateTime)) {
+            return EXPIRED;
+        }
+        return ACTIVE;
+    }
+}
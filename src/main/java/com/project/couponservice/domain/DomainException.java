@@ -1,7 +1,42 @@
 package com.project.couponservice.domain;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Rejection of a request by a business rule. Domain exceptions are answered with a status and a message and
+ * never logged, so they carry no stack trace and no suppressed exceptions: creating one costs an allocation,
+ * and the instances of {@link #rejected(RejectionReason)} are immutable and shared by every request.
+ */
 public class DomainException extends RuntimeException {
+
+    private static final Map<RejectionReason, DomainException> REJECTIONS = new EnumMap<>(RejectionReason.class);
+
+    static {
+        for (RejectionReason reason : RejectionReason.values()) {
+            REJECTIONS.put(reason, new DomainException(reason, reason.message()));
+        }
+    }
+
+    private final RejectionReason reason;
+
     public DomainException(String message) {
-        super(message);
+        this(null, message);
+    }
+
+    public DomainException(RejectionReason reason, String message) {
+        super(message, null, false, false);
+        this.reason = reason;
+    }
+
+    /**
+     * Shared instance for a rejection with the standard message of its reason.
+     */
+    public static DomainException rejected(RejectionReason reason) {
+        return REJECTIONS.get(reason);
+    }
+
+    public RejectionReason getReason() {
+        return reason;
     }
-}
\ No newline at end of file
+}
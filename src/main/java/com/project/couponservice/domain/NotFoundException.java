@@ -1,7 +1,17 @@
 package com.project.couponservice.domain;
 
 public class NotFoundException extends RuntimeException {
+
+    private static final NotFoundException COUPON = new NotFoundException(RejectionReason.NOT_FOUND.message());
+
     public NotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+    }
+
+    /**
+     * Shared, stackless instance for a coupon id that does not exist.
+     */
+    public static NotFoundException coupon() {
+        return COUPON;
     }
-}
\ No newline at end of file
+}
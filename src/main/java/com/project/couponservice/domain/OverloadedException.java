@@ -0,0 +1,7 @@
+package com.project.couponservice.domain;
+
+public class OverloadedException extends RuntimeException {
+    public OverloadedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.couponservice.domain;
+
+public enum RejectionReason {
+    NOT_FOUND("Cupom não encontrado."),
+    DELETED("O coupon foi delatado!"),
+    UNPUBLISHED("O coupon não esta mais publicado!"),
+    EXPIRED("A data de validade do cupom deve ser maior que o dia de hoje."),
+    LIMIT_REACHED("O cupom atingiu o limite de resgates."),
+    DUPLICATE_CODE("Já existe cupom cadastrado com o código informado."),
+    NOT_REDEEMED("Não foi possível resgatar o cupom.");
+
+    private final String message;
+
+    RejectionReason(String message) {
+        this.message = message;
+    }
+
+    public String message() {
+        return message;
+    }
+}
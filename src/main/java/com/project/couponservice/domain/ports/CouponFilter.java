@@ -0,0 +1,23 @@
+package com.project.couponservice.domain.ports;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional criteria for coupon scans; {@code null} means "any". Expiration and update bounds are inclusive.
+ */
+public record CouponFilter(Boolean published, Boolean deleted, LocalDateTime expirationFrom,
+                           LocalDateTime expirationTo, LocalDateTime updatedFrom) {
+
+    public CouponFilter(Boolean published, Boolean deleted, LocalDateTime expirationFrom,
+                        LocalDateTime expirationTo) {
+        this(published, deleted, expirationFrom, expirationTo, null);
+    }
+
+    public static CouponFilter any() {
+        return new CouponFilter(null, null, null, null);
+    }
+
+    public static CouponFilter updatedSince(LocalDateTime updatedFrom) {
+        return new CouponFilter(null, null, null, null, updatedFrom);
+    }
+}
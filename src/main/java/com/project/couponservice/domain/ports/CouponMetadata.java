@@ -0,0 +1,22 @@
+package com.project.couponservice.domain.ports;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.CouponStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns that decide whether a coupon changed since a client last read it, without the rest of the row.
+ */
+public record CouponMetadata(Long id, Long version, LocalDateTime updatedAt, LocalDateTime expirationDate,
+                             boolean deleted) {
+
+    public static CouponMetadata from(Coupon coupon) {
+        return new CouponMetadata(coupon.getId(), coupon.getVersion(), coupon.getUpdatedAt(),
+                coupon.getExpirationDate(), coupon.isDeleted());
+    }
+
+    public CouponStatus statusAt(LocalDateTime referenceDateTime) {
+        return CouponStatus.of(deleted, expirationDate, referenceDateTime);
+    }
+}
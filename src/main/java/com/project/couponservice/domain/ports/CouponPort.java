@@ -2,15 +2,54 @@ package com.project.couponservice.domain.ports;
 
 import com.project.couponservice.domain.Coupon;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CouponPort {
 
     Coupon save(Coupon coupon);
 
+    List<Coupon> saveAll(List<Coupon> coupons);
+
     Optional<Coupon> findById(Long id);
 
+    List<Coupon> findAllByIds(Collection<Long> ids);
+
+    Optional<CouponMetadata> findMetadata(Long id);
+
+    /**
+     * Writes the coupon if it still has the version it was read with; otherwise throws
+     * {@link com.project.couponservice.domain.ConflictException}.
+     */
     Coupon update(Coupon coupon);
 
     Optional<Coupon> findByCode(String code);
+
+    List<Coupon> findAllByCodes(Collection<String> codes);
+
+    Set<String> findExistingCodes(Collection<String> codes);
+
+    /**
+     * Duplicate pre-check before saving: the codes among {@code codes} known to be taken. A hint, not a
+     * lookup: a code left out may still exist, created by another instance, and is then rejected by the
+     * unique key on save.
+     */
+    default Set<String> findPossiblyExistingCodes(Collection<String> codes) {
+        return findExistingCodes(codes);
+    }
+
+    boolean redeem(Long id, LocalDateTime now);
+
+    /**
+     * Redeems every id of the list in a single transaction. The same id may appear more than once; the
+     * result tells, position by position, which redemptions were applied.
+     */
+    boolean[] redeemAll(List<Long> ids, LocalDateTime now);
+
+    List<Coupon> scan(CouponFilter filter, Long afterId, int limit);
+
+    List<Coupon> search(CouponFilter filter, CouponSearchCursor after, int limit);
 }
\ No newline at end of file
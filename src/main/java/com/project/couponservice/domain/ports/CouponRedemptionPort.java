@@ -0,0 +1,11 @@
+package com.project.couponservice.domain.ports;
+
+import java.time.LocalDateTime;
+
+public interface CouponRedemptionPort {
+
+    /**
+     * Applies one redemption and returns whether it was accepted. Returns only after the redemption is durable.
+     */
+    boolean redeem(Long id, LocalDateTime now);
+}
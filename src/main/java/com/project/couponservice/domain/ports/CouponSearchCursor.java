@@ -0,0 +1,9 @@
+package com.project.couponservice.domain.ports;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the last coupon returned by a search, ordered by {@code (expirationDate, id)}.
+ */
+public record CouponSearchCursor(LocalDateTime expirationDate, Long id) {
+}
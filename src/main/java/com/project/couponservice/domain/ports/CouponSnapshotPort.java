@@ -0,0 +1,20 @@
+package com.project.couponservice.domain.ports;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.RejectionReason;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * In-memory view of redeemability, kept current by the write use cases, for checks that must not hit
+ * the database.
+ */
+public interface CouponSnapshotPort {
+
+    Optional<RejectionReason> checkRedeem(Long id, LocalDateTime now);
+
+    void refresh(Coupon coupon);
+
+    void recordRedemption(Long id, LocalDateTime redeemedAt);
+}
@@ -0,0 +1,20 @@
+package com.project.couponservice.domain.ports;
+
+import java.util.Optional;
+
+/**
+ * Completed responses of requests sent with an {@code Idempotency-Key}, kept for a bounded time.
+ */
+public interface IdempotencyStorePort {
+
+    Optional<StoredResponse> find(String key);
+
+    void save(String key, StoredResponse response);
+
+    /**
+     * @param fingerprint hash of the request the key was first used with
+     * @param body        serialized JSON body
+     */
+    record StoredResponse(String fingerprint, int status, byte[] body) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.couponservice.domain.ports;
+
+import com.project.couponservice.domain.Coupon;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of the {@link CouponPort} operations used by the reactive deployment mode.
+ * Every {@link Mono} is cold: nothing reaches the database until it is subscribed.
+ */
+public interface ReactiveCouponPort {
+
+    Mono<Coupon> save(Coupon coupon);
+
+    Mono<Coupon> findById(Long id);
+
+    Mono<Coupon> findByCode(String code);
+
+    /**
+     * Writes the coupon if it still has the version it was read with; otherwise fails with
+     * {@link com.project.couponservice.domain.ConflictException}.
+     */
+    Mono<Coupon> update(Coupon coupon);
+
+    Mono<Boolean> redeem(Long id, LocalDateTime now);
+}
@@ -0,0 +1,68 @@
+package com.project.couponservice.infra.config;
+
+import com.project.couponservice.infra.datasource.DataSourceRoutingProperties;
+import com.project.couponservice.infra.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single {@code spring.datasource} pool with a primary pool plus one pool per
+ * {@code coupon.datasource.routing.replicas} entry, routed by {@link ReplicaRoutingDataSource}. The primary
+ * pool keeps the {@code spring.datasource.hikari} settings.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "coupon.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(DataSourceProperties primaryProperties,
+                                                      DataSourceRoutingProperties routing,
+                                                      MeterRegistry meterRegistry,
+                                                      Environment environment) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        // What @ConfigurationProperties("spring.datasource.hikari") does for Spring Boot's own pool.
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setMetricsTrackerFactory(metrics);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica settings : routing.getReplicas()) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(settings.getUrl());
+            replica.setUsername(settings.getUsername() != null ? settings.getUsername() : primaryProperties.determineUsername());
+            replica.setPassword(settings.getPassword() != null ? settings.getPassword() : primaryProperties.determinePassword());
+            replica.setDriverClassName(primaryProperties.determineDriverClassName());
+            replica.setMaximumPoolSize(settings.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(metrics);
+            replicas.add(replica);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, routing.getSelection());
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.couponservice.infra.config;
+
+import com.project.couponservice.infra.r2dbc.R2dbcProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reactive deployment mode ({@code spring.main.web-application-type=reactive}). Tomcat stays on the classpath
+ * for the servlet mode, so Reactor Netty is chosen explicitly: connections are served by a few event-loop
+ * threads instead of one thread per request.
+ */
+@Configuration
+@EnableConfigurationProperties(R2dbcProperties.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.couponservice.infra.config;
+
+import com.project.couponservice.infra.shard.CouponShard;
+import com.project.couponservice.infra.shard.CouponShards;
+import com.project.couponservice.infra.shard.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opens one pool per {@code coupon.shard.shards} entry and creates the shard schema on each of them.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@ConditionalOnProperty(prefix = "coupon", name = "store", havingValue = "sharded")
+public class ShardingConfig {
+
+    @Bean
+    public CouponShards couponShards(ShardingProperties properties, MeterRegistry meterRegistry) {
+        List<ShardingProperties.Shard> settings = properties.getShards();
+        if (settings.isEmpty() || settings.size() > properties.getMaxShards()) {
+            throw new IllegalStateException("coupon.shard.shards deve ter entre 1 e " + properties.getMaxShards()
+                    + " shards.");
+        }
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("db/shard-schema.sql"));
+
+        List<CouponShard> shards = new ArrayList<>(settings.size());
+        for (ShardingProperties.Shard shard : settings) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + shards.size());
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            dataSource.setMetricsTrackerFactory(metrics);
+            schema.execute(dataSource);
+            shards.add(new CouponShard(shards.size(), dataSource));
+        }
+        return new CouponShards(shards);
+    }
+}
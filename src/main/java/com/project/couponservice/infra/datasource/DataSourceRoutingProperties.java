@@ -0,0 +1,38 @@
+package com.project.couponservice.infra.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+    private Selection selection = Selection.ROUND_ROBIN;
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);
+    private long maximumClients = 100_000;
+    private List<Replica> replicas = new ArrayList<>();
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+
+    /**
+     * Connection settings of one read replica; missing credentials are taken from {@code spring.datasource}.
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.couponservice.infra.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.couponservice.shared.web.ClientIdResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Keeps each client on the primary while its own writes may not have reached the replicas: write requests
+ * run entirely on the primary, and reads from a client that wrote less than
+ * {@code coupon.datasource.routing.read-your-writes-window} ago do too. Clients are told apart by
+ * {@link ClientIdResolver}, the same way as for rate limiting.
+ */
+@Component
+@ConditionalOnProperty(prefix = "coupon.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ClientIdResolver clientIdResolver;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(DataSourceRoutingProperties properties, ClientIdResolver clientIdResolver) {
+        this.clientIdResolver = clientIdResolver;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumClients())
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientId = clientIdResolver.resolve(request);
+        boolean write = !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod());
+        if (write || recentWriters.getIfPresent(clientId) != null) {
+            RoutingContext.pinToPrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RoutingContext.clear();
+            if (write) {
+                recentWriters.put(clientId, Boolean.TRUE);
+            }
+        }
+    }
+}
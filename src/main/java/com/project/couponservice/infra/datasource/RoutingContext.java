@@ -0,0 +1,26 @@
+package com.project.couponservice.infra.datasource;
+
+/**
+ * Per-thread override that sends read-only transactions to the primary, set for write requests, for
+ * reads that fall inside a client's read-your-writes window and for the startup loaders of the in-memory
+ * index and snapshot, which must see every committed write.
+ */
+public final class RoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private RoutingContext() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
@@ -12,7 +12,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons", indexes = {
+        @Index(name = "idx_coupons_deleted_published_expiration", columnList = "deleted, published, expiration_date, id"),
+        @Index(name = "idx_coupons_deleted_expiration", columnList = "deleted, expiration_date, id"),
+        @Index(name = "idx_coupons_updated_at", columnList = "updated_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +24,8 @@ import java.time.LocalDateTime;
 public class CouponJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coupons_seq")
+    @SequenceGenerator(name = "coupons_seq", sequenceName = "coupons_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "code", nullable = false, length = 6, unique = true)
@@ -47,6 +52,16 @@ public class CouponJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Column(name = "max_redemptions")
+    private Integer maxRedemptions;
+
+    @Column(name = "redeemed_count", nullable = false, updatable = false)
+    private int redeemedCount;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     public static CouponJpaEntity fromDomain(Coupon coupon) {
         return new CouponJpaEntity(
                 coupon.getId(),
@@ -57,7 +72,10 @@ public class CouponJpaEntity {
                 coupon.isPublished(),
                 coupon.isDeleted(),
                 coupon.getCreatedAt(),
-                coupon.getUpdatedAt()
+                coupon.getUpdatedAt(),
+                coupon.getMaxRedemptions(),
+                coupon.getRedeemedCount(),
+                coupon.getVersion()
         );
     }
 
@@ -71,7 +89,10 @@ public class CouponJpaEntity {
                 this.published,
                 this.deleted,
                 this.createdAt,
-                this.updatedAt
+                this.updatedAt,
+                this.maxRedemptions,
+                this.redeemedCount,
+                this.version
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.project.couponservice.infra.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.couponservice.domain.ports.IdempotencyStorePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(prefix = "coupon.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStorePort {
+
+    private final Cache<String, StoredResponse> responses;
+
+    public InMemoryIdempotencyStore(@Value("${coupon.idempotency.maximum-size:100000}") long maximumSize,
+                                    @Value("${coupon.idempotency.ttl:24h}") Duration ttl) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        return Optional.ofNullable(responses.getIfPresent(key));
+    }
+
+    @Override
+    public void save(String key, StoredResponse response) {
+        responses.asMap().putIfAbsent(key, response);
+    }
+}
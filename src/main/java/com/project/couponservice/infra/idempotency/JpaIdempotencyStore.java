@@ -0,0 +1,61 @@
+package com.project.couponservice.infra.idempotency;
+
+import com.project.couponservice.domain.ports.IdempotencyStorePort;
+import com.project.couponservice.infra.repository.IdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Keeps completed responses in the {@code idempotency_keys} table so that retries reaching another instance
+ * are answered too. Rows older than the TTL are ignored on read and purged periodically.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "coupon.idempotency", name = "store", havingValue = "jpa")
+public class JpaIdempotencyStore implements IdempotencyStorePort {
+
+    private final IdempotencyKeyRepository repository;
+    private final Duration ttl;
+
+    public JpaIdempotencyStore(IdempotencyKeyRepository repository,
+                               @Value("${coupon.idempotency.ttl:24h}") Duration ttl) {
+        this.repository = repository;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        LocalDateTime oldest = LocalDateTime.now().minus(ttl);
+        return repository.findById(key)
+                .filter(entity -> entity.getCreatedAt().isAfter(oldest))
+                .map(entity -> new StoredResponse(entity.getFingerprint(), entity.getStatus(), entity.getBody()));
+    }
+
+    @Override
+    public void save(String key, StoredResponse response) {
+        LocalDateTime now = LocalDateTime.now();
+        // An expired row not purged yet would otherwise block the insert for the rest of its life.
+        repository.deleteExpired(key, now.minus(ttl));
+        try {
+            repository.insert(key, response.fingerprint(), response.status(), response.body(), now);
+        } catch (DataIntegrityViolationException ex) {
+            // Another instance inserted a response for the same key at the same time; either one is valid.
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        int purged = repository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (purged > 0) {
+            log.info("{} chaves de idempotência expiradas removidas", purged);
+        }
+    }
+}
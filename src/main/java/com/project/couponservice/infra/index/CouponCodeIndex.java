@@ -0,0 +1,222 @@
+package com.project.couponservice.infra.index;
+
+import com.project.couponservice.domain.CouponCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory index from packed {@link com.project.couponservice.domain.CouponCode} values to coupon ids.
+ * <p>
+ * Open addressing with linear probing over two parallel {@code long[]} arrays (16 bytes per slot,
+ * load factor at most 0.75), so 20M codes fit in roughly 512MB instead of the gigabytes a
+ * {@code HashMap<String, Long>} would need. Keys are stored as {@code code + 1} so that a zeroed
+ * slot means empty. Reads are optimistic and only fall back to a read lock when racing a write.
+ * <p>
+ * The index is a hint, not the source of truth: until {@link #markReady()} is called, and for codes
+ * written by other instances, callers must fall back to the database. A miss is only good for skipping
+ * the duplicate pre-check before an insert, where the unique key still catches what the index missed.
+ */
+@Component
+public class CouponCodeIndex {
+
+    public static final long NO_ID = -1L;
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final StampedLock lock = new StampedLock();
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int resizeThreshold;
+    private volatile boolean ready;
+
+    public CouponCodeIndex(@Value("${coupon.code-index.initial-capacity:1024}") int initialCapacity) {
+        allocate(tableSizeFor(Math.max(initialCapacity, 16)));
+    }
+
+    public long get(long code) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            long[] currentKeys = keys;
+            long[] currentValues = values;
+            if (currentKeys.length == currentValues.length) {
+                long id = lookup(currentKeys, currentValues, code);
+                if (lock.validate(stamp)) {
+                    return id;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return lookup(keys, values, code);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(long code, long id) {
+        long stamp = lock.writeLock();
+        try {
+            if (insert(keys, values, code + 1, id)) {
+                if (++size > resizeThreshold) {
+                    resize(keys.length << 1);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long code) {
+        long stamp = lock.writeLock();
+        try {
+            long key = code + 1;
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    shiftBack(slot, mask);
+                    size--;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Records the code of a coupon this instance saved or read; codes that cannot be packed are skipped.
+     */
+    public void index(String code, Long id) {
+        long packedCode = CouponCode.encode(code);
+        if (packedCode != CouponCode.INVALID) {
+            put(packedCode, id);
+        }
+    }
+
+    /**
+     * The codes worth checking against the database before an insert: all of them until the index is
+     * ready, then only those it knows and those it cannot pack.
+     */
+    public List<String> possiblyTaken(Collection<String> codes) {
+        if (!ready) {
+            return List.copyOf(codes);
+        }
+        List<String> candidates = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            long packedCode = CouponCode.encode(code);
+            if (packedCode == CouponCode.INVALID || get(packedCode) != NO_ID) {
+                candidates.add(code);
+            }
+        }
+        return candidates;
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    private static long lookup(long[] keys, long[] values, long code) {
+        long key = code + 1;
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        for (int probes = 0; probes < keys.length; probes++) {
+            long current = keys[slot];
+            if (current == EMPTY) {
+                return NO_ID;
+            }
+            if (current == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_ID;
+    }
+
+    private static boolean insert(long[] keys, long[] values, long key, long id) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] = id;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = id;
+        return true;
+    }
+
+    /**
+     * Backward-shift deletion: moves later entries of the probe chain into the freed slot so lookups
+     * never need tombstones.
+     */
+    private void shiftBack(int freed, int mask) {
+        int slot = freed;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == EMPTY) {
+                break;
+            }
+            int home = slot(key, mask);
+            boolean movable = freed <= slot ? (home <= freed || home > slot) : (home <= freed && home > slot);
+            if (movable) {
+                keys[freed] = key;
+                values[freed] = values[slot];
+                freed = slot;
+            }
+        }
+        keys[freed] = EMPTY;
+        values[freed] = 0L;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                insert(keys, values, oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        return size > 0 ? size : 1 << 30;
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.couponservice.infra.index;
+
+import com.project.couponservice.domain.CouponCode;
+import com.project.couponservice.infra.datasource.RoutingContext;
+import com.project.couponservice.infra.repository.CouponCodeProjection;
+import com.project.couponservice.infra.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "coupon.code-index", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponCodeIndexLoader implements ApplicationRunner {
+
+    private final CouponRepository repository;
+    private final CouponCodeIndex index;
+
+    @Value("${coupon.code-index.load-batch-size:10000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long afterId = 0L;
+        List<CouponCodeProjection> page;
+        RoutingContext.pinToPrimary();
+        try {
+            do {
+                page = repository.findCodesAfter(afterId, Limit.of(batchSize));
+                for (CouponCodeProjection row : page) {
+                    long code = CouponCode.encode(row.getCode());
+                    if (code != CouponCode.INVALID) {
+                        index.put(code, row.getId());
+                    }
+                    afterId = row.getId();
+                }
+            } while (page.size() == batchSize);
+        } finally {
+            RoutingContext.clear();
+        }
+
+        index.markReady();
+        log.info("Índice de códigos de cupom carregado com {} códigos", index.size());
+    }
+}
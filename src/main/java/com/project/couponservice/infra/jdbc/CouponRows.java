@@ -0,0 +1,72 @@
+package com.project.couponservice.infra.jdbc;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponMetadata;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Column list, row mappers and filter predicates shared by the JDBC adapters of the {@code coupons} table.
+ * Rows go straight to {@link Coupon#with}, without an intermediate entity.
+ */
+public final class CouponRows {
+
+    public static final String COLUMNS = "id, code, description, discount_value, expiration_date, published, "
+            + "deleted, created_at, updated_at, max_redemptions, redeemed_count, version";
+
+    public static final String METADATA_COLUMNS = "id, version, updated_at, expiration_date, deleted";
+
+    public static final RowMapper<Coupon> COUPON = (rs, rowNum) -> Coupon.with(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getBigDecimal(4),
+            rs.getObject(5, LocalDateTime.class),
+            rs.getBoolean(6),
+            rs.getBoolean(7),
+            rs.getObject(8, LocalDateTime.class),
+            rs.getObject(9, LocalDateTime.class),
+            rs.getObject(10, Integer.class),
+            rs.getInt(11),
+            rs.getLong(12));
+
+    public static final RowMapper<CouponMetadata> METADATA = (rs, rowNum) -> new CouponMetadata(
+            rs.getLong(1),
+            rs.getLong(2),
+            rs.getObject(3, LocalDateTime.class),
+            rs.getObject(4, LocalDateTime.class),
+            rs.getBoolean(5));
+
+    private CouponRows() {
+    }
+
+    /**
+     * Appends {@code AND ...} for each criterion that is set; the statement must already have a
+     * {@code WHERE}.
+     */
+    public static void appendFilter(StringBuilder sql, List<Object> args, CouponFilter filter) {
+        if (filter.deleted() != null) {
+            sql.append(" AND deleted = ?");
+            args.add(filter.deleted());
+        }
+        if (filter.published() != null) {
+            sql.append(" AND published = ?");
+            args.add(filter.published());
+        }
+        if (filter.expirationFrom() != null) {
+            sql.append(" AND expiration_date >= ?");
+            args.add(filter.expirationFrom());
+        }
+        if (filter.expirationTo() != null) {
+            sql.append(" AND expiration_date <= ?");
+            args.add(filter.expirationTo());
+        }
+        if (filter.updatedFrom() != null) {
+            sql.append(" AND updated_at >= ?");
+            args.add(filter.updatedFrom());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.couponservice.infra.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ids from a database sequence that increments by {@code allocationSize}, with the same semantics as
+ * Hibernate's pooled optimizer: a sequence value {@code hi} reserves {@code (hi - allocationSize, hi]}. The
+ * JPA and JDBC adapters can therefore take turns on the same {@code coupons_seq} without colliding.
+ * <p>
+ * Guarded by a {@link ReentrantLock} rather than {@code synchronized}, because a refill queries the database
+ * while holding it and a virtual thread blocked inside {@code synchronized} pins its carrier thread.
+ */
+public class PooledSequence {
+
+    private final JdbcTemplate jdbc;
+    private final String nextValueSql;
+    private final int allocationSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long hi = -1;
+
+    public PooledSequence(JdbcTemplate jdbc, String sequenceName, int allocationSize) {
+        this.jdbc = jdbc;
+        this.nextValueSql = "SELECT NEXT VALUE FOR " + sequenceName;
+        this.allocationSize = allocationSize;
+    }
+
+    public long next() {
+        lock.lock();
+        try {
+            if (next > hi) {
+                hi = jdbc.queryForObject(nextValueSql, Long.class);
+                next = Math.max(1, hi - allocationSize + 1);
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.couponservice.infra.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Fields shared by the coupon events. {@code outcome} is {@code OK}, {@code REJECTED} (a redemption that
+ * matched no row) or the simple name of the exception, suffixed with its rejection reason when present.
+ */
+abstract class CouponEvent extends Event {
+
+    @Label("Coupon Id")
+    long couponId = -1;
+
+    @Label("Coupon Code")
+    String code;
+
+    @Label("Outcome")
+    String outcome;
+}
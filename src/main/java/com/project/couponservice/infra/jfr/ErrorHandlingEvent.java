@@ -0,0 +1,23 @@
+package com.project.couponservice.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.project.coupon.ErrorHandling")
+@Label("Coupon Error Handling")
+@Description("Construction of an error response by GlobalExceptionHandler")
+@Category({"Coupon Service", "API"})
+@Threshold("0 ms")
+@StackTrace(false)
+public class ErrorHandlingEvent extends CouponEvent {
+
+    @Label("Exception")
+    String exception;
+
+    @Label("Handler")
+    String handler;
+}
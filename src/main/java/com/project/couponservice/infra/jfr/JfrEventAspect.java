@@ -0,0 +1,156 @@
+package com.project.couponservice.infra.jfr;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponOutput;
+import com.project.couponservice.application.delete.DeleteCouponCommand;
+import com.project.couponservice.application.get.GetCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.validate.ValidateCouponCommand;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Emits {@link UseCaseEvent}, {@link PortEvent} and {@link ErrorHandlingEvent} around use cases, the JPA port
+ * and the exception handlers. When an event type is disabled in the running recording, the advice only pays
+ * for the {@code isEnabled} check; ids, codes and outcomes are extracted only for events that pass their
+ * threshold.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "coupon.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JfrEventAspect {
+
+    @Around("execution(* com.project.couponservice.application..*Service.execute(..))"
+            + " && !execution(reactor.core.publisher.Mono *(..))")
+    public Object aroundUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        UseCaseEvent event = new UseCaseEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.useCase = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                describe(event, joinPoint.getArgs(), result, failure);
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* com.project.couponservice.infra.port.CouponJpaPort.*(..))"
+            + " || execution(* com.project.couponservice.infra.port.CouponJdbcPort.*(..))"
+            + " || execution(* com.project.couponservice.infra.shard.ShardedCouponPort.*(..))")
+    public Object aroundPort(ProceedingJoinPoint joinPoint) throws Throwable {
+        PortEvent event = new PortEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = joinPoint.getSignature().getName();
+                describe(event, joinPoint.getArgs(), result, failure);
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* com.project.couponservice.api.exception.GlobalExceptionHandler.handle*(..))")
+    public Object aroundErrorHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        ErrorHandlingEvent event = new ErrorHandlingEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object handled = joinPoint.getArgs()[0];
+                event.handler = joinPoint.getSignature().getName();
+                event.exception = handled.getClass().getSimpleName();
+                event.outcome = outcome(handled instanceof Throwable ex ? ex : null);
+                event.commit();
+            }
+        }
+    }
+
+    private static void describe(CouponEvent event, Object[] args, Object result, Throwable failure) {
+        if (args.length > 0) {
+            describeArgument(event, args[0]);
+        }
+        if (result instanceof Optional<?> optional) {
+            result = optional.orElse(null);
+        }
+        if (result instanceof Coupon coupon) {
+            describeCoupon(event, coupon);
+        } else if (result instanceof CreateCouponOutput output) {
+            event.couponId = output.id();
+            event.code = output.code();
+        }
+        event.outcome = Boolean.FALSE.equals(result) ? "REJECTED" : outcome(failure);
+    }
+
+    private static void describeArgument(CouponEvent event, Object argument) {
+        if (argument instanceof Long id) {
+            event.couponId = id;
+        } else if (argument instanceof String code) {
+            event.code = code;
+        } else if (argument instanceof Coupon coupon) {
+            describeCoupon(event, coupon);
+        } else if (argument instanceof GetCouponCommand command && command.id() != null) {
+            event.couponId = command.id();
+        } else if (argument instanceof RedeemCouponCommand command && command.id() != null) {
+            event.couponId = command.id();
+        } else if (argument instanceof DeleteCouponCommand command && command.id() != null) {
+            event.couponId = command.id();
+        } else if (argument instanceof ValidateCouponCommand command && command.id() != null) {
+            event.couponId = command.id();
+        } else if (argument instanceof CreateCouponCommand command) {
+            event.code = command.code();
+        }
+    }
+
+    private static void describeCoupon(CouponEvent event, Coupon coupon) {
+        if (coupon.getId() != null) {
+            event.couponId = coupon.getId();
+        }
+        event.code = coupon.getCode();
+    }
+
+    private static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "OK";
+        }
+        if (failure instanceof DomainException ex && ex.getReason() != null) {
+            return failure.getClass().getSimpleName() + ":" + ex.getReason().name();
+        }
+        return failure.getClass().getSimpleName();
+    }
+}
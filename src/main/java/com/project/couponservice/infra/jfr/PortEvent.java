@@ -0,0 +1,20 @@
+package com.project.couponservice.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.project.coupon.Port")
+@Label("Coupon Port Call")
+@Description("Call to the persistence port, including Hibernate and entity mapping")
+@Category({"Coupon Service", "Persistence"})
+@Threshold("10 ms")
+@StackTrace(false)
+public class PortEvent extends CouponEvent {
+
+    @Label("Method")
+    String method;
+}
@@ -0,0 +1,20 @@
+package com.project.couponservice.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.project.coupon.UseCase")
+@Label("Coupon Use Case")
+@Description("Execution of an application use case, from the service entry to its return")
+@Category({"Coupon Service", "Application"})
+@Threshold("10 ms")
+@StackTrace(false)
+public class UseCaseEvent extends CouponEvent {
+
+    @Label("Use Case")
+    String useCase;
+}
@@ -0,0 +1,264 @@
+package com.project.couponservice.infra.port;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponMetadata;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
+import com.project.couponservice.infra.datasource.RoutingContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Read-through cache in front of the {@code couponStore} port ({@link CouponJpaPort}, or the sharded
+ * port), bounded by size (W-TinyLFU eviction). Writes that go through the port invalidate the entry
+ * even when they fail, and callers always receive a copy so domain mutations never leak into the
+ * cache. Status is not cached: it is derived from the coupon at read time.
+ * <p>
+ * A miss is loaded by the calling thread, outside the cache's map locks: the entry holds a future that
+ * concurrent readers of the same id wait on. A loader inside {@code Cache.get} would run the query while
+ * holding a {@code synchronized} bin lock, pinning the carrier thread when requests run on virtual threads.
+ * <p>
+ * With read replicas ({@code coupon.datasource.routing.enabled}) the cache must not undo read-your-writes:
+ * requests pinned to the primary bypass it, and for {@code read-your-writes-window} after a write an id is
+ * read without being cached, so a replica that has not caught up cannot park the old row in the cache for
+ * the whole {@code expire-after-write}.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "coupon.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingCouponPort implements CouponPort, MeterBinder {
+
+    private final CouponPort delegate;
+    private final AsyncCache<Long, Coupon> cache;
+    private final Cache<Long, Boolean> recentWrites;
+
+    public CachingCouponPort(@Qualifier("couponStore") CouponPort delegate,
+                             @Value("${coupon.cache.maximum-size:100000}") long maximumSize,
+                             @Value("${coupon.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                             @Value("${coupon.datasource.routing.enabled:false}") boolean replicaRouting,
+                             @Value("${coupon.datasource.routing.read-your-writes-window:2s}") Duration readYourWritesWindow) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        this.recentWrites = replicaRouting
+                ? Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(readYourWritesWindow).build()
+                : null;
+    }
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        return delegate.save(coupon);
+    }
+
+    @Override
+    public List<Coupon> saveAll(List<Coupon> coupons) {
+        return delegate.saveAll(coupons);
+    }
+
+    @Override
+    public Optional<Coupon> findById(Long id) {
+        if (bypassCache(id)) {
+            return delegate.findById(id);
+        }
+        CompletableFuture<Coupon> loading = new CompletableFuture<>();
+        CompletableFuture<Coupon> entry = cache.get(id, (key, executor) -> loading);
+        if (entry == loading) {
+            try {
+                loading.complete(delegate.findById(id).orElse(null));
+                if (bypassCache(id)) {
+                    // Written while this read was in flight: the row may be older than the write.
+                    cache.asMap().remove(id, loading);
+                }
+            } catch (RuntimeException ex) {
+                loading.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        return Optional.ofNullable(join(entry)).map(Coupon::copy);
+    }
+
+    @Override
+    public List<Coupon> findAllByIds(Collection<Long> ids) {
+        if (RoutingContext.isPinnedToPrimary() || recentWrites != null && !recentWrites.getAllPresent(ids).isEmpty()) {
+            return delegate.findAllByIds(ids);
+        }
+        // As in findById, the misses are loaded by the calling thread: the synchronous view would run the bulk
+        // loader on the common pool, outside the caller's transaction and thread-local routing.
+        CompletableFuture<Map<Long, Coupon>> loading = new CompletableFuture<>();
+        List<Long> toLoad = new ArrayList<>();
+        CompletableFuture<Map<Long, Coupon>> entries = cache.getAll(ids, (missing, executor) -> {
+            toLoad.addAll(missing);
+            return loading;
+        });
+        if (!toLoad.isEmpty()) {
+            try {
+                Map<Long, Coupon> loaded = new HashMap<>();
+                for (Coupon coupon : delegate.findAllByIds(toLoad)) {
+                    loaded.put(coupon.getId(), coupon);
+                }
+                loading.complete(loaded);
+                if (recentWrites != null) {
+                    // Written while this read was in flight: the rows may be older than the writes.
+                    cache.synchronous().invalidateAll(recentWrites.getAllPresent(toLoad).keySet());
+                }
+            } catch (RuntimeException ex) {
+                loading.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        Map<Long, Coupon> cached = join(entries);
+        List<Coupon> result = new ArrayList<>(cached.size());
+        for (Long id : ids) {
+            Coupon coupon = cached.get(id);
+            if (coupon != null) {
+                result.add(coupon.copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Answered from the cached coupon when there is one; a miss reads only the metadata columns and does
+     * not populate the cache, so conditional requests for cold coupons stay cheap.
+     */
+    @Override
+    public Optional<CouponMetadata> findMetadata(Long id) {
+        if (bypassCache(id)) {
+            return delegate.findMetadata(id);
+        }
+        CompletableFuture<Coupon> entry = cache.getIfPresent(id);
+        Coupon cached = entry != null && !entry.isCompletedExceptionally() ? entry.getNow(null) : null;
+        if (cached != null) {
+            return Optional.of(CouponMetadata.from(cached));
+        }
+        return delegate.findMetadata(id);
+    }
+
+    @Override
+    public Coupon update(Coupon coupon) {
+        try {
+            return delegate.update(coupon);
+        } finally {
+            invalidate(coupon.getId());
+        }
+    }
+
+    @Override
+    public Optional<Coupon> findByCode(String code) {
+        return delegate.findByCode(code);
+    }
+
+    @Override
+    public List<Coupon> findAllByCodes(Collection<String> codes) {
+        return delegate.findAllByCodes(codes);
+    }
+
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        return delegate.findExistingCodes(codes);
+    }
+
+    @Override
+    public Set<String> findPossiblyExistingCodes(Collection<String> codes) {
+        return delegate.findPossiblyExistingCodes(codes);
+    }
+
+    @Override
+    public boolean redeem(Long id, LocalDateTime now) {
+        try {
+            return delegate.redeem(id, now);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean[] redeemAll(List<Long> ids, LocalDateTime now) {
+        try {
+            return delegate.redeemAll(ids, now);
+        } finally {
+            for (Long id : ids) {
+                invalidate(id);
+            }
+        }
+    }
+
+    @Override
+    public List<Coupon> scan(CouponFilter filter, Long afterId, int limit) {
+        return delegate.scan(filter, afterId, limit);
+    }
+
+    @Override
+    public List<Coupon> search(CouponFilter filter, CouponSearchCursor after, int limit) {
+        return delegate.search(filter, after, limit);
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    /**
+     * Drops every cached coupon, for when rows change behind the port (bulk deletes, test setup).
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+        if (recentWrites != null) {
+            recentWrites.invalidateAll();
+        }
+    }
+
+    private boolean bypassCache(Long id) {
+        return RoutingContext.isPinnedToPrimary() || recentWrites != null && recentWrites.getIfPresent(id) != null;
+    }
+
+    private void invalidate(Long id) {
+        // Recorded before the entry is dropped, so a reader that misses it sees the write window.
+        if (recentWrites != null) {
+            recentWrites.put(id, Boolean.TRUE);
+        }
+        cache.synchronous().invalidate(id);
+    }
+
+    private static <T> T join(CompletableFuture<T> entry) {
+        try {
+            return entry.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "coupons");
+    }
+}
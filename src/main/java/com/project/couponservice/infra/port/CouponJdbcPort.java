@@ -0,0 +1,283 @@
+package com.project.couponservice.infra.port;
+
+import com.project.couponservice.domain.ConflictException;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponMetadata;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
+import com.project.couponservice.infra.index.CouponCodeIndex;
+import com.project.couponservice.infra.jdbc.CouponRows;
+import com.project.couponservice.infra.jdbc.PooledSequence;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link CouponPort} on plain JDBC over the same {@code coupons} table as {@link CouponJpaPort}, without a
+ * persistence context or entity mapping. Hot statements are constant strings, and multi-value lookups
+ * bind one array parameter ({@code = ANY(?)}) instead of a variable {@code IN} list, so every call reuses
+ * a cached prepared statement. Updates only write the columns the domain can change.
+ */
+@Repository
+@Qualifier("couponStore")
+@Timed(value = "coupon.port", histogram = true)
+@ConditionalOnProperty(prefix = "coupon", name = "store", havingValue = "jdbc")
+public class CouponJdbcPort implements CouponPort {
+
+    private static final String INSERT = "INSERT INTO coupons (" + CouponRows.COLUMNS
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String FIND_BY_ID = "SELECT " + CouponRows.COLUMNS + " FROM coupons WHERE id = ?";
+    private static final String FIND_BY_IDS = "SELECT " + CouponRows.COLUMNS + " FROM coupons WHERE id = ANY(?)";
+    private static final String FIND_METADATA = "SELECT " + CouponRows.METADATA_COLUMNS + " FROM coupons WHERE id = ?";
+    private static final String FIND_BY_CODE = "SELECT " + CouponRows.COLUMNS + " FROM coupons WHERE code = ?";
+    private static final String FIND_BY_CODES = "SELECT " + CouponRows.COLUMNS + " FROM coupons WHERE code = ANY(?)";
+    private static final String FIND_EXISTING_CODES = "SELECT code FROM coupons WHERE code = ANY(?)";
+    // Description, discount, expiration, publication and limit are fixed at creation, and redeemed_count is
+    // only changed by the conditional UPDATEs below, so an update can only have touched these columns.
+    private static final String UPDATE = """
+            UPDATE coupons
+               SET deleted = ?, updated_at = ?, version = version + 1
+             WHERE id = ? AND version = ?
+            """;
+    private static final String REDEEM = """
+            UPDATE coupons
+               SET redeemed_count = redeemed_count + ?, updated_at = ?, version = version + 1
+             WHERE id = ?
+               AND deleted = FALSE
+               AND published = TRUE
+               AND expiration_date > ?
+               AND (max_redemptions IS NULL OR redeemed_count + ? <= max_redemptions)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final CouponCodeIndex codeIndex;
+    private final PooledSequence ids;
+
+    public CouponJdbcPort(JdbcTemplate jdbc, CouponCodeIndex codeIndex) {
+        this.jdbc = jdbc;
+        this.codeIndex = codeIndex;
+        this.ids = new PooledSequence(jdbc, "coupons_seq", 50);
+    }
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        Coupon withId = withId(coupon);
+        try {
+            jdbc.update(INSERT, insertValues(withId));
+        } catch (DataIntegrityViolationException ex) {
+            throw DomainException.rejected(RejectionReason.DUPLICATE_CODE);
+        }
+        codeIndex.index(withId.getCode(), withId.getId());
+        return withId;
+    }
+
+    @Override
+    @Transactional
+    public List<Coupon> saveAll(List<Coupon> coupons) {
+        List<Coupon> saved = new ArrayList<>(coupons.size());
+        for (Coupon coupon : coupons) {
+            saved.add(withId(coupon));
+        }
+        try {
+            jdbc.batchUpdate(INSERT, saved, saved.size(), (ps, coupon) -> insertValues(coupon).setValues(ps));
+        } catch (DataIntegrityViolationException ex) {
+            throw DomainException.rejected(RejectionReason.DUPLICATE_CODE);
+        }
+        for (Coupon coupon : saved) {
+            codeIndex.index(coupon.getCode(), coupon.getId());
+        }
+        return saved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Coupon> findById(Long id) {
+        return jdbc.query(FIND_BY_ID, CouponRows.COUPON, id).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Coupon> findAllByIds(Collection<Long> ids) {
+        Map<Long, Coupon> found = new HashMap<>();
+        Long[] distinct = new LinkedHashSet<>(ids).toArray(Long[]::new);
+        for (Coupon coupon : jdbc.query(FIND_BY_IDS, ps -> ps.setObject(1, distinct), CouponRows.COUPON)) {
+            found.put(coupon.getId(), coupon);
+        }
+        return inRequestOrder(ids, found);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CouponMetadata> findMetadata(Long id) {
+        return jdbc.query(FIND_METADATA, CouponRows.METADATA, id).stream().findFirst();
+    }
+
+    @Override
+    public Coupon update(Coupon coupon) {
+        if (jdbc.update(UPDATE, coupon.isDeleted(), coupon.getUpdatedAt(), coupon.getId(), coupon.getVersion()) == 0) {
+            throw new ConflictException("O cupom foi alterado por outra requisição.");
+        }
+        return Coupon.with(coupon.getId(), coupon.getCode(), coupon.getDescription(), coupon.getDiscountValue(),
+                coupon.getExpirationDate(), coupon.isPublished(), coupon.isDeleted(), coupon.getCreatedAt(),
+                coupon.getUpdatedAt(), coupon.getMaxRedemptions(), coupon.getRedeemedCount(),
+                coupon.getVersion() + 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Coupon> findByCode(String code) {
+        Optional<Coupon> found = jdbc.query(FIND_BY_CODE, CouponRows.COUPON, code).stream().findFirst();
+        found.ifPresent(coupon -> codeIndex.index(coupon.getCode(), coupon.getId()));
+        return found;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Coupon> findAllByCodes(Collection<String> codes) {
+        Map<String, Coupon> found = new HashMap<>();
+        String[] distinct = new LinkedHashSet<>(codes).toArray(String[]::new);
+        for (Coupon coupon : jdbc.query(FIND_BY_CODES, ps -> ps.setObject(1, distinct), CouponRows.COUPON)) {
+            found.put(coupon.getCode(), coupon);
+        }
+        return inRequestOrder(codes, found);
+    }
+
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return new HashSet<>();
+        }
+        String[] values = new LinkedHashSet<>(codes).toArray(String[]::new);
+        return new HashSet<>(jdbc.query(FIND_EXISTING_CODES, ps -> ps.setObject(1, values),
+                (rs, rowNum) -> rs.getString(1)));
+    }
+
+    @Override
+    public Set<String> findPossiblyExistingCodes(Collection<String> codes) {
+        List<String> candidates = codeIndex.possiblyTaken(codes);
+        return candidates.isEmpty() ? new HashSet<>() : findExistingCodes(candidates);
+    }
+
+    @Override
+    public boolean redeem(Long id, LocalDateTime now) {
+        return jdbc.update(REDEEM, 1, now, id, now, 1) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean[] redeemAll(List<Long> ids, LocalDateTime now) {
+        Map<Long, List<Integer>> positionsById = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positionsById.computeIfAbsent(ids.get(i), id -> new ArrayList<>()).add(i);
+        }
+
+        boolean[] redeemed = new boolean[ids.size()];
+        positionsById.forEach((id, positions) -> {
+            if (positions.size() > 1 && jdbc.update(REDEEM, positions.size(), now, id, now, positions.size()) == 1) {
+                positions.forEach(position -> redeemed[position] = true);
+                return;
+            }
+            for (int position : positions) {
+                redeemed[position] = redeem(id, now);
+            }
+        });
+        return redeemed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Coupon> scan(CouponFilter filter, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT " + CouponRows.COLUMNS + " FROM coupons WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        CouponRows.appendFilter(sql, args, filter);
+        if (afterId != null) {
+            sql.append(" AND id > ?");
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        return query(sql.toString(), args, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Coupon> search(CouponFilter filter, CouponSearchCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT " + CouponRows.COLUMNS + " FROM coupons WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        CouponRows.appendFilter(sql, args, filter);
+        if (after != null) {
+            sql.append(" AND (expiration_date > ? OR (expiration_date = ? AND id > ?))");
+            args.add(after.expirationDate());
+            args.add(after.expirationDate());
+            args.add(after.id());
+        }
+        sql.append(" ORDER BY expiration_date, id LIMIT ?");
+        args.add(limit);
+        return query(sql.toString(), args, limit);
+    }
+
+    private List<Coupon> query(String sql, List<Object> args, int fetchSize) {
+        return jdbc.query(connection -> {
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, CouponRows.COUPON);
+    }
+
+    private Coupon withId(Coupon coupon) {
+        return Coupon.with(ids.next(), coupon.getCode(), coupon.getDescription(), coupon.getDiscountValue(),
+                coupon.getExpirationDate(), coupon.isPublished(), coupon.isDeleted(), coupon.getCreatedAt(),
+                coupon.getUpdatedAt(), coupon.getMaxRedemptions(), coupon.getRedeemedCount(), 0L);
+    }
+
+    private static PreparedStatementSetter insertValues(Coupon coupon) {
+        return ps -> {
+            ps.setLong(1, coupon.getId());
+            ps.setString(2, coupon.getCode());
+            ps.setString(3, coupon.getDescription());
+            ps.setBigDecimal(4, coupon.getDiscountValue());
+            ps.setObject(5, coupon.getExpirationDate());
+            ps.setBoolean(6, coupon.isPublished());
+            ps.setBoolean(7, coupon.isDeleted());
+            ps.setObject(8, coupon.getCreatedAt());
+            ps.setObject(9, coupon.getUpdatedAt());
+            ps.setObject(10, coupon.getMaxRedemptions());
+            ps.setInt(11, coupon.getRedeemedCount());
+            ps.setLong(12, coupon.getVersion());
+        };
+    }
+
+    private static <K> List<Coupon> inRequestOrder(Collection<K> keys, Map<K, Coupon> found) {
+        List<Coupon> result = new ArrayList<>(found.size());
+        for (K key : keys) {
+            Coupon coupon = found.get(key);
+            if (coupon != null) {
+                result.add(coupon);
+            }
+        }
+        return result;
+    }
+}
@@ -1,43 +1,210 @@
 package com.project.couponservice.infra.port;
 
 import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.ConflictException;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponMetadata;
 import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
 import com.project.couponservice.infra.entity.CouponJpaEntity;
+import com.project.couponservice.infra.index.CouponCodeIndex;
 import com.project.couponservice.infra.repository.CouponRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
+@Qualifier("couponStore")
+@Timed(value = "coupon.port", histogram = true)
+@ConditionalOnProperty(prefix = "coupon", name = "store", havingValue = "jpa", matchIfMissing = true)
 public class CouponJpaPort implements CouponPort {
 
+    private static final int MAX_IN_CLAUSE = 1000;
+
     private final CouponRepository repository;
+    private final CouponCodeIndex codeIndex;
 
-    public CouponJpaPort(CouponRepository repository) {
+    public CouponJpaPort(CouponRepository repository, CouponCodeIndex codeIndex) {
         this.repository = repository;
+        this.codeIndex = codeIndex;
     }
 
     @Override
     public Coupon save(Coupon coupon) {
         CouponJpaEntity entity = CouponJpaEntity.fromDomain(coupon);
-        CouponJpaEntity saved = repository.save(entity);
+        CouponJpaEntity saved;
+        try {
+            saved = repository.save(entity);
+        } catch (DataIntegrityViolationException ex) {
+            // Codes created by another instance, or while the index was warming up, are caught by the unique key.
+            throw DomainException.rejected(RejectionReason.DUPLICATE_CODE);
+        }
+        codeIndex.index(saved.getCode(), saved.getId());
         return saved.toDomain();
     }
 
     @Override
+    @Transactional
+    public List<Coupon> saveAll(List<Coupon> coupons) {
+        List<CouponJpaEntity> entities = new ArrayList<>(coupons.size());
+        for (Coupon coupon : coupons) {
+            entities.add(CouponJpaEntity.fromDomain(coupon));
+        }
+        List<CouponJpaEntity> saved;
+        try {
+            saved = repository.saveAllAndFlush(entities);
+        } catch (DataIntegrityViolationException ex) {
+            throw DomainException.rejected(RejectionReason.DUPLICATE_CODE);
+        }
+        List<Coupon> result = new ArrayList<>(saved.size());
+        for (CouponJpaEntity entity : saved) {
+            codeIndex.index(entity.getCode(), entity.getId());
+            result.add(entity.toDomain());
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Coupon> findById(Long id) {
         return repository.findById(id).map(CouponJpaEntity::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CouponMetadata> findMetadata(Long id) {
+        return repository.findMetadataById(id)
+                .map(row -> new CouponMetadata(row.getId(), row.getVersion(), row.getUpdatedAt(),
+                        row.getExpirationDate(), row.isDeleted()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Coupon> findAllByIds(Collection<Long> ids) {
+        Map<Long, CouponJpaEntity> found = new HashMap<>();
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        for (int start = 0; start < distinct.size(); start += MAX_IN_CLAUSE) {
+            for (CouponJpaEntity entity : repository.findAllById(
+                    distinct.subList(start, Math.min(start + MAX_IN_CLAUSE, distinct.size())))) {
+                found.put(entity.getId(), entity);
+            }
+        }
+        return inRequestOrder(ids, found);
+    }
+
     @Override
     public Coupon update(Coupon coupon) {
         CouponJpaEntity entity = CouponJpaEntity.fromDomain(coupon);
-        CouponJpaEntity updated = repository.save(entity);
-        return updated.toDomain();
+        try {
+            CouponJpaEntity updated = repository.save(entity);
+            return updated.toDomain();
+        } catch (OptimisticLockingFailureException ex) {
+            throw new ConflictException("O cupom foi alterado por outra requisição.");
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Coupon> findByCode(String code) {
-        return repository.findByCode(code).map(CouponJpaEntity::toDomain);
+        Optional<Coupon> found = repository.findByCode(code).map(CouponJpaEntity::toDomain);
+        found.ifPresent(coupon -> codeIndex.index(coupon.getCode(), coupon.getId()));
+        return found;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Coupon> findAllByCodes(Collection<String> codes) {
+        Map<String, CouponJpaEntity> found = new HashMap<>();
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(codes));
+        for (int start = 0; start < distinct.size(); start += MAX_IN_CLAUSE) {
+            for (CouponJpaEntity entity : repository.findByCodeIn(
+                    distinct.subList(start, Math.min(start + MAX_IN_CLAUSE, distinct.size())))) {
+                found.put(entity.getCode(), entity);
+            }
+        }
+        return inRequestOrder(codes, found);
+    }
+
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(codes));
+        Set<String> existing = new HashSet<>();
+        for (int start = 0; start < distinct.size(); start += MAX_IN_CLAUSE) {
+            existing.addAll(repository.findExistingCodes(
+                    distinct.subList(start, Math.min(start + MAX_IN_CLAUSE, distinct.size()))));
+        }
+        return existing;
+    }
+
+    @Override
+    public Set<String> findPossiblyExistingCodes(Collection<String> codes) {
+        List<String> candidates = codeIndex.possiblyTaken(codes);
+        return candidates.isEmpty() ? new HashSet<>() : findExistingCodes(candidates);
+    }
+
+    @Override
+    public boolean redeem(Long id, LocalDateTime now) {
+        return repository.redeem(id, now) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean[] redeemAll(List<Long> ids, LocalDateTime now) {
+        Map<Long, List<Integer>> positionsById = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positionsById.computeIfAbsent(ids.get(i), id -> new ArrayList<>()).add(i);
+        }
+
+        boolean[] redeemed = new boolean[ids.size()];
+        positionsById.forEach((id, positions) -> {
+            // A hot coupon is incremented once for all its requests; near the limit each one is applied alone.
+            if (positions.size() > 1 && repository.redeem(id, positions.size(), now) == 1) {
+                positions.forEach(position -> redeemed[position] = true);
+                return;
+            }
+            for (int position : positions) {
+                redeemed[position] = repository.redeem(id, now) == 1;
+            }
+        });
+        return redeemed;
+    }
+
+    @Override
+    public List<Coupon> scan(CouponFilter filter, Long afterId, int limit) {
+        return repository.scan(filter, afterId, limit).stream().map(CouponJpaEntity::toDomain).toList();
+    }
+
+    @Override
+    public List<Coupon> search(CouponFilter filter, CouponSearchCursor after, int limit) {
+        return repository.search(filter, after, limit).stream().map(CouponJpaEntity::toDomain).toList();
+    }
+
+    private static <K> List<Coupon> inRequestOrder(Collection<K> keys, Map<K, CouponJpaEntity> found) {
+        List<Coupon> result = new ArrayList<>(found.size());
+        for (K key : keys) {
+            CouponJpaEntity entity = found.get(key);
+            if (entity != null) {
+                result.add(entity.toDomain());
+            }
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package com.project.couponservice.infra.port;
+
+import com.project.couponservice.domain.ConflictException;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.ReactiveCouponPort;
+import com.project.couponservice.infra.jdbc.CouponRows;
+import com.project.couponservice.infra.r2dbc.R2dbcProperties;
+import com.project.couponservice.infra.r2dbc.ReactivePooledSequence;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * {@link ReactiveCouponPort} on R2DBC over the same {@code coupons} table and {@code coupons_seq} as the
+ * blocking adapters, with the statements of {@link CouponJdbcPort}.
+ * <p>
+ * The connection pool is owned by the adapter rather than exposed as a {@code ConnectionFactory} bean: Spring
+ * Boot drops the JDBC {@code DataSource} when one exists, and the JPA components still need it.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CouponR2dbcPort implements ReactiveCouponPort, DisposableBean {
+
+    private static final String INSERT = "INSERT INTO coupons (" + CouponRows.COLUMNS + ") VALUES (:id, :code, "
+            + ":description, :discountValue, :expirationDate, :published, :deleted, :createdAt, :updatedAt, "
+            + ":maxRedemptions, :redeemedCount, :version)";
+    private static final String FIND_BY_ID = "SELECT " + CouponRows.COLUMNS + " FROM coupons WHERE id = :id";
+    private static final String FIND_BY_CODE = "SELECT " + CouponRows.COLUMNS + " FROM coupons WHERE code = :code";
+    private static final String UPDATE = """
+            UPDATE coupons
+               SET deleted = :deleted, updated_at = :updatedAt, version = version + 1
+             WHERE id = :id AND version = :version
+            """;
+    private static final String REDEEM = """
+            UPDATE coupons
+               SET redeemed_count = redeemed_count + 1, updated_at = :now, version = version + 1
+             WHERE id = :id
+               AND deleted = FALSE
+               AND published = TRUE
+               AND expiration_date > :now
+               AND (max_redemptions IS NULL OR redeemed_count + 1 <= max_redemptions)
+            """;
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+    private final ReactivePooledSequence ids;
+
+    public CouponR2dbcPort(R2dbcProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("coupon-r2dbc")
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .maxAcquireTime(properties.getMaxAcquireTime())
+                .build());
+        this.client = DatabaseClient.create(pool);
+        this.ids = new ReactivePooledSequence(client, "coupons_seq", 50);
+    }
+
+    @Override
+    public Mono<Coupon> save(Coupon coupon) {
+        return ids.next()
+                .map(id -> Coupon.with(id, coupon.getCode(), coupon.getDescription(), coupon.getDiscountValue(),
+                        coupon.getExpirationDate(), coupon.isPublished(), coupon.isDeleted(), coupon.getCreatedAt(),
+                        coupon.getUpdatedAt(), coupon.getMaxRedemptions(), coupon.getRedeemedCount(), 0L))
+                .flatMap(withId -> {
+                    DatabaseClient.GenericExecuteSpec insert = client.sql(INSERT)
+                            .bind("id", withId.getId())
+                            .bind("code", withId.getCode())
+                            .bind("description", withId.getDescription())
+                            .bind("discountValue", withId.getDiscountValue())
+                            .bind("expirationDate", withId.getExpirationDate())
+                            .bind("published", withId.isPublished())
+                            .bind("deleted", withId.isDeleted())
+                            .bind("createdAt", withId.getCreatedAt())
+                            .bind("updatedAt", withId.getUpdatedAt())
+                            .bind("redeemedCount", withId.getRedeemedCount())
+                            .bind("version", withId.getVersion());
+                    insert = withId.getMaxRedemptions() != null
+                            ? insert.bind("maxRedemptions", withId.getMaxRedemptions())
+                            : insert.bindNull("maxRedemptions", Integer.class);
+                    return insert.then()
+                            .onErrorMap(DataIntegrityViolationException.class,
+                                    ex -> DomainException.rejected(RejectionReason.DUPLICATE_CODE))
+                            .thenReturn(withId);
+                });
+    }
+
+    @Override
+    public Mono<Coupon> findById(Long id) {
+        return client.sql(FIND_BY_ID).bind("id", id).map(CouponR2dbcPort::coupon).one();
+    }
+
+    @Override
+    public Mono<Coupon> findByCode(String code) {
+        return client.sql(FIND_BY_CODE).bind("code", code).map(CouponR2dbcPort::coupon).one();
+    }
+
+    @Override
+    public Mono<Coupon> update(Coupon coupon) {
+        return client.sql(UPDATE)
+                .bind("deleted", coupon.isDeleted())
+                .bind("updatedAt", coupon.getUpdatedAt())
+                .bind("id", coupon.getId())
+                .bind("version", coupon.getVersion())
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> rows == 0
+                        ? Mono.error(new ConflictException("O cupom foi alterado por outra requisição."))
+                        : Mono.just(Coupon.with(coupon.getId(), coupon.getCode(), coupon.getDescription(),
+                                coupon.getDiscountValue(), coupon.getExpirationDate(), coupon.isPublished(),
+                                coupon.isDeleted(), coupon.getCreatedAt(), coupon.getUpdatedAt(),
+                                coupon.getMaxRedemptions(), coupon.getRedeemedCount(), coupon.getVersion() + 1)));
+    }
+
+    @Override
+    public Mono<Boolean> redeem(Long id, LocalDateTime now) {
+        return client.sql(REDEEM)
+                .bind("id", id)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows == 1);
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+
+    private static Coupon coupon(Readable row) {
+        return Coupon.with(
+                row.get(0, Long.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, BigDecimal.class),
+                row.get(4, LocalDateTime.class),
+                Boolean.TRUE.equals(row.get(5, Boolean.class)),
+                Boolean.TRUE.equals(row.get(6, Boolean.class)),
+                row.get(7, LocalDateTime.class),
+                row.get(8, LocalDateTime.class),
+                row.get(9, Integer.class),
+                row.get(10, Integer.class),
+                row.get(11, Long.class));
+    }
+}
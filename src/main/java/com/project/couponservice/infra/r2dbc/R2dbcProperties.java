@@ -0,0 +1,24 @@
+package com.project.couponservice.infra.r2dbc;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection settings of the reactive store. The URL should point at the same database as
+ * {@code spring.datasource}: the JPA components still create the schema and run the background jobs.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.r2dbc")
+public class R2dbcProperties {
+
+    private String url = "r2dbc:h2:mem:///coupondb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private String username = "sa";
+    private String password = "";
+    private int initialSize = 4;
+    private int maxSize = 20;
+    private Duration maxAcquireTime = Duration.ofSeconds(5);
+}
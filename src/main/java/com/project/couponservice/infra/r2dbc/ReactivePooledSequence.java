@@ -0,0 +1,62 @@
+package com.project.couponservice.infra.r2dbc;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Non-blocking {@link com.project.couponservice.infra.jdbc.PooledSequence}: same {@code (hi - allocationSize, hi]}
+ * blocks, handed out without a lock. Concurrent refills each fetch a block of their own and the last one
+ * wins, so a race leaves gaps but never repeats an id.
+ */
+public class ReactivePooledSequence {
+
+    private final DatabaseClient client;
+    private final String nextValueSql;
+    private final int allocationSize;
+    private final AtomicReference<Block> block = new AtomicReference<>(new Block(1, 0));
+
+    public ReactivePooledSequence(DatabaseClient client, String sequenceName, int allocationSize) {
+        this.client = client;
+        this.nextValueSql = "SELECT NEXT VALUE FOR " + sequenceName;
+        this.allocationSize = allocationSize;
+    }
+
+    public Mono<Long> next() {
+        return Mono.defer(() -> {
+            long id = block.get().take();
+            if (id != Block.EXHAUSTED) {
+                return Mono.just(id);
+            }
+            return client.sql(nextValueSql)
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(hi -> {
+                        Block fresh = new Block(Math.max(1, hi - allocationSize + 1), hi);
+                        long first = fresh.take();
+                        block.set(fresh);
+                        return first;
+                    });
+        });
+    }
+
+    private static final class Block {
+
+        static final long EXHAUSTED = -1;
+
+        private final AtomicLong next;
+        private final long hi;
+
+        Block(long first, long hi) {
+            this.next = new AtomicLong(first);
+            this.hi = hi;
+        }
+
+        long take() {
+            long id = next.getAndIncrement();
+            return id <= hi ? id : EXHAUSTED;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.couponservice.infra.redeem;
+
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponRedemptionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * One transaction per redemption, committed on the caller's thread.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.redeem.mode", havingValue = "direct", matchIfMissing = true)
+public class DirectCouponRedemption implements CouponRedemptionPort {
+
+    private final CouponPort couponPort;
+
+    @Override
+    public boolean redeem(Long id, LocalDateTime now) {
+        return couponPort.redeem(id, now);
+    }
+}
@@ -0,0 +1,209 @@
+package com.project.couponservice.infra.redeem;
+
+import com.project.couponservice.domain.OverloadedException;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponRedemptionPort;
+import com.project.couponservice.infra.thread.CouponThreads;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Queues redemptions and lets a single writer thread apply up to {@code max-batch-size} of them per
+ * transaction. A request waits at most {@code linger} for others to join its batch and is answered only
+ * after the batch commits. The queue is bounded: when it stays full for {@code offer-timeout} the request
+ * is refused with {@link OverloadedException} instead of piling up behind a slow database. A request that
+ * gets no answer within {@code wait-timeout} is refused the same way if it is still queued, and so never
+ * written; once the writer has taken it, the request waits for its batch instead, since a refusal would
+ * invite the client to redeem again. When the writer stops, on shutdown or after an unexpected error, every redemption
+ * still queued is refused.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.redeem.mode", havingValue = "group-commit")
+public class GroupCommitCouponRedemption implements CouponRedemptionPort, MeterBinder {
+
+    private final CouponPort couponPort;
+    private final BlockingQueue<PendingRedemption> queue;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final long offerTimeoutNanos;
+    private final long waitTimeoutNanos;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public GroupCommitCouponRedemption(CouponPort couponPort,
+                                       CouponThreads threads,
+                                       @Value("${coupon.redeem.group-commit.queue-capacity:10000}") int queueCapacity,
+                                       @Value("${coupon.redeem.group-commit.max-batch-size:256}") int maxBatchSize,
+                                       @Value("${coupon.redeem.group-commit.linger:2ms}") Duration linger,
+                                       @Value("${coupon.redeem.group-commit.offer-timeout:100ms}") Duration offerTimeout,
+                                       @Value("${coupon.redeem.group-commit.wait-timeout:5s}") Duration waitTimeout) {
+        this.couponPort = couponPort;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.writer = threads.threadFactory("coupon-redeem-writer-").newThread(this::writeLoop);
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Override
+    public boolean redeem(Long id, LocalDateTime now) {
+        PendingRedemption pending = new PendingRedemption(id, now, new CompletableFuture<>());
+        try {
+            if (!running || !queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw overloaded();
+            }
+            // The writer may have drained the queue for the last time between the check and the offer.
+            if (!running && queue.remove(pending)) {
+                throw overloaded();
+            }
+            return pending.result().get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(ex.getCause());
+        } catch (TimeoutException | InterruptedException ex) {
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // Still queued: it will never be written, so the client can safely retry.
+            if (queue.remove(pending)) {
+                throw overloaded();
+            }
+            // Already taken by the writer and possibly committed: a 503 would invite a second redemption.
+            return awaitWritten(pending);
+        }
+    }
+
+    private static boolean awaitWritten(PendingRedemption pending) {
+        try {
+            return pending.result().join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingRedemption> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    PendingRedemption first = running ? queue.take() : queue.poll();
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                    fillBatch(batch);
+                } catch (InterruptedException ex) {
+                    // stop() was called: drain what is left without waiting.
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        } finally {
+            running = false;
+            queue.drainTo(batch);
+            for (PendingRedemption pending : batch) {
+                pending.result().completeExceptionally(overloaded());
+            }
+        }
+    }
+
+    private void fillBatch(List<PendingRedemption> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingRedemption next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingRedemption> batch) {
+        // One transaction checks every row against one instant: the latest request time in the batch, so no
+        // redemption is accepted after the coupon expired for any of the requests in it.
+        List<Long> ids = new ArrayList<>(batch.size());
+        LocalDateTime now = batch.get(0).now();
+        for (PendingRedemption pending : batch) {
+            ids.add(pending.id());
+            if (pending.now().isAfter(now)) {
+                now = pending.now();
+            }
+        }
+        boolean[] redeemed;
+        try {
+            redeemed = couponPort.redeemAll(ids, now);
+        } catch (RuntimeException ex) {
+            // The whole batch was rolled back: retry one by one so a single bad row fails alone.
+            log.warn("Falha ao gravar lote de {} resgates, reprocessando individualmente", batch.size(), ex);
+            for (PendingRedemption pending : batch) {
+                try {
+                    pending.result().complete(couponPort.redeem(pending.id(), pending.now()));
+                } catch (RuntimeException itemEx) {
+                    pending.result().completeExceptionally(itemEx);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(redeemed[i]);
+        }
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("coupon.redeem.queue.size", queue, BlockingQueue::size).register(registry);
+    }
+
+    private static OverloadedException overloaded() {
+        return new OverloadedException("Serviço sobrecarregado, tente novamente.");
+    }
+
+    private record PendingRedemption(Long id, LocalDateTime now, CompletableFuture<Boolean> result) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.couponservice.infra.repository;
+
+public interface CouponCodeProjection {
+    Long getId();
+
+    String getCode();
+}
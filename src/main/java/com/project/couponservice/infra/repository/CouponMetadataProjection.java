@@ -0,0 +1,15 @@
+package com.project.couponservice.infra.repository;
+
+import java.time.LocalDateTime;
+
+public interface CouponMetadataProjection {
+    Long getId();
+
+    Long getVersion();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getExpirationDate();
+
+    boolean isDeleted();
+}
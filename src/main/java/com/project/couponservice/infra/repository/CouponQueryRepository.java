@@ -0,0 +1,14 @@
+package com.project.couponservice.infra.repository;
+
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
+import com.project.couponservice.infra.entity.CouponJpaEntity;
+
+import java.util.List;
+
+public interface CouponQueryRepository {
+
+    List<CouponJpaEntity> scan(CouponFilter filter, Long afterId, int limit);
+
+    List<CouponJpaEntity> search(CouponFilter filter, CouponSearchCursor after, int limit);
+}
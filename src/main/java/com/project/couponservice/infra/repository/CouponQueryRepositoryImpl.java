@@ -0,0 +1,91 @@
+package com.project.couponservice.infra.repository;
+
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
+import com.project.couponservice.infra.entity.CouponJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria queries that only add the predicates actually requested, so the database can pick an
+ * index for the filter instead of evaluating {@code :param is null or ...} branches.
+ */
+@Transactional(readOnly = true)
+public class CouponQueryRepositoryImpl implements CouponQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CouponJpaEntity> scan(CouponFilter filter, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CouponJpaEntity> query = cb.createQuery(CouponJpaEntity.class);
+        Root<CouponJpaEntity> coupon = query.from(CouponJpaEntity.class);
+
+        List<Predicate> predicates = filterPredicates(cb, coupon, filter);
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(coupon.get("id"), afterId));
+        }
+        query.where(predicates.toArray(Predicate[]::new)).orderBy(cb.asc(coupon.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, limit)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    @Override
+    public List<CouponJpaEntity> search(CouponFilter filter, CouponSearchCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CouponJpaEntity> query = cb.createQuery(CouponJpaEntity.class);
+        Root<CouponJpaEntity> coupon = query.from(CouponJpaEntity.class);
+        Path<LocalDateTime> expirationDate = coupon.get("expirationDate");
+        Path<Long> id = coupon.get("id");
+
+        List<Predicate> predicates = filterPredicates(cb, coupon, filter);
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(expirationDate, after.expirationDate()),
+                    cb.and(cb.equal(expirationDate, after.expirationDate()), cb.greaterThan(id, after.id()))));
+        }
+        query.where(predicates.toArray(Predicate[]::new)).orderBy(cb.asc(expirationDate), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, limit)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<CouponJpaEntity> coupon, CouponFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.deleted() != null) {
+            predicates.add(cb.equal(coupon.get("deleted"), filter.deleted()));
+        }
+        if (filter.published() != null) {
+            predicates.add(cb.equal(coupon.get("published"), filter.published()));
+        }
+        if (filter.expirationFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(coupon.get("expirationDate"), filter.expirationFrom()));
+        }
+        if (filter.expirationTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(coupon.get("expirationDate"), filter.expirationTo()));
+        }
+        if (filter.updatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(coupon.get("updatedAt"), filter.updatedFrom()));
+        }
+        return predicates;
+    }
+}
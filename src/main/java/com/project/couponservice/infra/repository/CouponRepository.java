@@ -1,10 +1,64 @@
 package com.project.couponservice.infra.repository;
 
 import com.project.couponservice.infra.entity.CouponJpaEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface CouponRepository extends JpaRepository<CouponJpaEntity, Long> {
+public interface CouponRepository extends JpaRepository<CouponJpaEntity, Long>, CouponQueryRepository {
     Optional<CouponJpaEntity> findByCode(String code);
+
+    List<CouponJpaEntity> findByCodeIn(Collection<String> codes);
+
+    @Query("select c.code from CouponJpaEntity c where c.code in :codes")
+    List<String> findExistingCodes(@Param("codes") Collection<String> codes);
+
+    @Query("""
+            select c.id as id, c.version as version, c.updatedAt as updatedAt,
+                   c.expirationDate as expirationDate, c.deleted as deleted
+              from CouponJpaEntity c
+             where c.id = :id
+            """)
+    Optional<CouponMetadataProjection> findMetadataById(@Param("id") Long id);
+
+    @Query("select c.id as id, c.code as code from CouponJpaEntity c where c.id > :afterId order by c.id")
+    List<CouponCodeProjection> findCodesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update CouponJpaEntity c
+               set c.redeemedCount = c.redeemedCount + 1,
+                   c.updatedAt = :now,
+                   c.version = c.version + 1
+             where c.id = :id
+               and c.deleted = false
+               and c.published = true
+               and c.expirationDate > :now
+               and (c.maxRedemptions is null or c.redeemedCount < c.maxRedemptions)
+            """)
+    int redeem(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update CouponJpaEntity c
+               set c.redeemedCount = c.redeemedCount + :quantity,
+                   c.updatedAt = :now,
+                   c.version = c.version + 1
+             where c.id = :id
+               and c.deleted = false
+               and c.published = true
+               and c.expirationDate > :now
+               and (c.maxRedemptions is null or c.redeemedCount + :quantity <= c.maxRedemptions)
+            """)
+    int redeem(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
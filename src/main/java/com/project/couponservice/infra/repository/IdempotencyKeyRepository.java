@@ -0,0 +1,36 @@
+package com.project.couponservice.infra.repository;
+
+import com.project.couponservice.infra.entity.IdempotencyKeyJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyJpaEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKeyJpaEntity k where k.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKeyJpaEntity k where k.key = :key and k.createdAt < :before")
+    int deleteExpired(@Param("key") String key, @Param("before") LocalDateTime before);
+
+    /**
+     * Plain insert: {@code save} would merge over an existing row instead of hitting the primary key.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into idempotency_keys (idempotency_key, fingerprint, status, body, created_at) "
+            + "values (:key, :fingerprint, :status, :body, :createdAt)", nativeQuery = true)
+    int insert(@Param("key") String key,
+               @Param("fingerprint") String fingerprint,
+               @Param("status") int status,
+               @Param("body") byte[] body,
+               @Param("createdAt") LocalDateTime createdAt);
+}
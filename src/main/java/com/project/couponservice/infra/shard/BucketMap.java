@@ -0,0 +1,78 @@
+package com.project.couponservice.infra.shard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Assignment of every bucket to a shard, persisted in the {@code shard_buckets} table of the first shard.
+ * Writes to a bucket hold its shared lock, so they run concurrently with each other; {@link ShardRebalancer}
+ * takes the exclusive lock while it copies the bucket, so no write is lost in the move. The locks are local
+ * to this instance.
+ */
+public class BucketMap {
+
+    private final CouponShard catalog;
+    private final ReentrantReadWriteLock[] locks = new ReentrantReadWriteLock[ShardKey.BUCKETS];
+    private volatile int[] shardByBucket;
+
+    BucketMap(CouponShard catalog, int shardCount) {
+        this.catalog = catalog;
+        for (int bucket = 0; bucket < locks.length; bucket++) {
+            locks[bucket] = new ReentrantReadWriteLock();
+        }
+        this.shardByBucket = load(shardCount);
+    }
+
+    public int shardOf(int bucket) {
+        return shardByBucket[bucket];
+    }
+
+    public int[] snapshot() {
+        return shardByBucket.clone();
+    }
+
+    Lock sharedLock(int bucket) {
+        return locks[bucket].readLock();
+    }
+
+    Lock exclusiveLock(int bucket) {
+        return locks[bucket].writeLock();
+    }
+
+    void assign(int bucket, int shard) {
+        catalog.jdbc().update("UPDATE shard_buckets SET shard = ? WHERE bucket = ?", shard, bucket);
+        int[] updated = shardByBucket.clone();
+        updated[bucket] = shard;
+        shardByBucket = updated;
+    }
+
+    private int[] load(int shardCount) {
+        int[] assignment = new int[ShardKey.BUCKETS];
+        Arrays.fill(assignment, -1);
+        List<int[]> rows = catalog.jdbc().query("SELECT bucket, shard FROM shard_buckets",
+                (rs, rowNum) -> new int[]{rs.getInt("bucket"), rs.getInt("shard")});
+        if (rows.isEmpty()) {
+            List<Object[]> initial = new ArrayList<>(ShardKey.BUCKETS);
+            for (int bucket = 0; bucket < assignment.length; bucket++) {
+                assignment[bucket] = bucket % shardCount;
+                initial.add(new Object[]{bucket, assignment[bucket]});
+            }
+            catalog.jdbc().batchUpdate("INSERT INTO shard_buckets (bucket, shard) VALUES (?, ?)", initial);
+            return assignment;
+        }
+        for (int[] row : rows) {
+            if (row[1] >= shardCount) {
+                throw new IllegalStateException("O bucket " + row[0] + " está no shard " + row[1]
+                        + ", que não está configurado em coupon.shard.shards.");
+            }
+            assignment[row[0]] = row[1];
+        }
+        if (Arrays.stream(assignment).anyMatch(shard -> shard < 0)) {
+            throw new IllegalStateException("A tabela shard_buckets não cobre todos os " + ShardKey.BUCKETS + " buckets.");
+        }
+        return assignment;
+    }
+}
@@ -0,0 +1,185 @@
+package com.project.couponservice.infra.shard;
+
+import com.project.couponservice.domain.ConflictException;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponMetadata;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
+import com.project.couponservice.infra.jdbc.CouponRows;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * One shard database and the coupon SQL run against it. Every shard has the same schema
+ * ({@code db/shard-schema.sql}); ids are allocated by {@link ShardedCouponPort}.
+ */
+public class CouponShard implements AutoCloseable {
+
+    private static final String COLUMNS = CouponRows.COLUMNS;
+    private static final RowMapper<Coupon> COUPON_ROW = CouponRows.COUPON;
+
+    private final int index;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate transactions;
+
+    public CouponShard(int index, HikariDataSource dataSource) {
+        this.index = index;
+        this.dataSource = dataSource;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.namedJdbc = new NamedParameterJdbcTemplate(jdbc);
+        this.transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    public int index() {
+        return index;
+    }
+
+    JdbcTemplate jdbc() {
+        return jdbc;
+    }
+
+    TransactionTemplate transactions() {
+        return transactions;
+    }
+
+    long nextIdBlock() {
+        return jdbc.queryForObject("SELECT NEXT VALUE FOR coupons_block_seq", Long.class);
+    }
+
+    void insertAll(List<Coupon> coupons) {
+        jdbc.batchUpdate("INSERT INTO coupons (bucket, " + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                coupons, coupons.size(), (ps, coupon) -> {
+                    ps.setInt(1, ShardKey.bucketOfId(coupon.getId()));
+                    ps.setLong(2, coupon.getId());
+                    ps.setString(3, coupon.getCode());
+                    ps.setString(4, coupon.getDescription());
+                    ps.setBigDecimal(5, coupon.getDiscountValue());
+                    ps.setObject(6, coupon.getExpirationDate());
+                    ps.setBoolean(7, coupon.isPublished());
+                    ps.setBoolean(8, coupon.isDeleted());
+                    ps.setObject(9, coupon.getCreatedAt());
+                    ps.setObject(10, coupon.getUpdatedAt());
+                    ps.setObject(11, coupon.getMaxRedemptions());
+                    ps.setInt(12, coupon.getRedeemedCount());
+                    ps.setLong(13, coupon.getVersion() != null ? coupon.getVersion() : 0L);
+                });
+    }
+
+    Optional<Coupon> findById(long id) {
+        return jdbc.query("SELECT " + COLUMNS + " FROM coupons WHERE id = ?", COUPON_ROW, id).stream().findFirst();
+    }
+
+    List<Coupon> findAllByIds(Collection<Long> ids) {
+        return namedJdbc.query("SELECT " + COLUMNS + " FROM coupons WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids), COUPON_ROW);
+    }
+
+    Optional<CouponMetadata> findMetadata(long id) {
+        return jdbc.query("SELECT " + CouponRows.METADATA_COLUMNS + " FROM coupons WHERE id = ?", CouponRows.METADATA,
+                id).stream().findFirst();
+    }
+
+    Optional<Coupon> findByCode(String code) {
+        return jdbc.query("SELECT " + COLUMNS + " FROM coupons WHERE code = ?", COUPON_ROW, code).stream().findFirst();
+    }
+
+    List<Coupon> findAllByCodes(Collection<String> codes) {
+        return namedJdbc.query("SELECT " + COLUMNS + " FROM coupons WHERE code IN (:codes)",
+                new MapSqlParameterSource("codes", codes), COUPON_ROW);
+    }
+
+    Set<String> findExistingCodes(Collection<String> codes) {
+        return new HashSet<>(namedJdbc.queryForList("SELECT code FROM coupons WHERE code IN (:codes)",
+                new MapSqlParameterSource("codes", codes), String.class));
+    }
+
+    Coupon update(Coupon coupon) {
+        // Same narrow update as CouponJdbcPort: only deletion changes a stored coupon outside redemption.
+        int updated = jdbc.update("UPDATE coupons SET deleted = ?, updated_at = ?, version = version + 1 "
+                        + "WHERE id = ? AND version = ?",
+                coupon.isDeleted(), coupon.getUpdatedAt(), coupon.getId(), coupon.getVersion());
+        if (updated == 0) {
+            throw new ConflictException("O cupom foi alterado por outra requisição.");
+        }
+        return Coupon.with(coupon.getId(), coupon.getCode(), coupon.getDescription(), coupon.getDiscountValue(),
+                coupon.getExpirationDate(), coupon.isPublished(), coupon.isDeleted(), coupon.getCreatedAt(),
+                coupon.getUpdatedAt(), coupon.getMaxRedemptions(), coupon.getRedeemedCount(),
+                coupon.getVersion() + 1);
+    }
+
+    int redeem(long id, int quantity, LocalDateTime now) {
+        return jdbc.update("""
+                UPDATE coupons
+                   SET redeemed_count = redeemed_count + ?, updated_at = ?, version = version + 1
+                 WHERE id = ?
+                   AND deleted = FALSE
+                   AND published = TRUE
+                   AND expiration_date > ?
+                   AND (max_redemptions IS NULL OR redeemed_count + ? <= max_redemptions)
+                """, quantity, now, id, now, quantity);
+    }
+
+    List<Coupon> scan(CouponFilter filter, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM coupons WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        CouponRows.appendFilter(sql, args, filter);
+        if (afterId != null) {
+            sql.append(" AND id > ?");
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        return jdbc.query(sql.toString(), COUPON_ROW, args.toArray());
+    }
+
+    List<Coupon> search(CouponFilter filter, CouponSearchCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM coupons WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        CouponRows.appendFilter(sql, args, filter);
+        if (after != null) {
+            sql.append(" AND (expiration_date > ? OR (expiration_date = ? AND id > ?))");
+            args.add(after.expirationDate());
+            args.add(after.expirationDate());
+            args.add(after.id());
+        }
+        sql.append(" ORDER BY expiration_date, id LIMIT ?");
+        args.add(limit);
+        return jdbc.query(sql.toString(), COUPON_ROW, args.toArray());
+    }
+
+    int deleteAllByIds(Collection<Long> ids) {
+        return namedJdbc.update("DELETE FROM coupons WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+
+    List<Coupon> findBucket(int bucket) {
+        return jdbc.query("SELECT " + COLUMNS + " FROM coupons WHERE bucket = ?", COUPON_ROW, bucket);
+    }
+
+    int deleteBucket(int bucket) {
+        return jdbc.update("DELETE FROM coupons WHERE bucket = ?", bucket);
+    }
+
+    long count() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM coupons", Long.class);
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
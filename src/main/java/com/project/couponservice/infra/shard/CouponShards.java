@@ -0,0 +1,48 @@
+package com.project.couponservice.infra.shard;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+
+/**
+ * The configured shards and the bucket assignment that routes coupons to them.
+ */
+public class CouponShards implements DisposableBean {
+
+    private final List<CouponShard> shards;
+    private final BucketMap buckets;
+
+    public CouponShards(List<CouponShard> shards) {
+        this.shards = List.copyOf(shards);
+        this.buckets = new BucketMap(shards.get(0), shards.size());
+    }
+
+    public List<CouponShard> all() {
+        return shards;
+    }
+
+    public BucketMap buckets() {
+        return buckets;
+    }
+
+    public CouponShard get(int index) {
+        return shards.get(index);
+    }
+
+    public CouponShard forBucket(int bucket) {
+        return shards.get(buckets.shardOf(bucket));
+    }
+
+    public CouponShard forId(long id) {
+        return forBucket(ShardKey.bucketOfId(id));
+    }
+
+    public CouponShard forCode(String code) {
+        return forBucket(ShardKey.bucketOfCode(code));
+    }
+
+    @Override
+    public void destroy() {
+        shards.forEach(CouponShard::close);
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.couponservice.infra.shard;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out id sequences for one shard in blocks, like Hibernate's pooled optimizer: each block number
+ * comes from the shard's {@code coupons_block_seq} and is interleaved with the shard index, so sequences
+ * are unique across shards and a bucket can move to another shard without id collisions. The lock is held
+ * while a new block is fetched, so it is a {@link ReentrantLock}: it does not pin a virtual thread's carrier.
+ */
+class IdAllocator {
+
+    private final CouponShard shard;
+    private final int maxShards;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextSequence;
+    private long blockEnd;
+
+    IdAllocator(CouponShard shard, int maxShards, int blockSize) {
+        this.shard = shard;
+        this.maxShards = maxShards;
+        this.blockSize = blockSize;
+    }
+
+    long next() {
+        lock.lock();
+        try {
+            if (nextSequence == blockEnd) {
+                long block = shard.nextIdBlock();
+                nextSequence = (block * maxShards + shard.index()) * blockSize;
+                blockEnd = nextSequence + blockSize;
+            }
+            return nextSequence++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.couponservice.infra.shard;
+
+import com.project.couponservice.domain.CouponCode;
+
+/**
+ * Coupons are hashed by code into {@value #BUCKETS} virtual buckets, and buckets are assigned to shards by
+ * {@link BucketMap}. The bucket is stored in the low bits of the id, so a lookup by id finds the shard
+ * without knowing the code, and moving a bucket to another shard never changes ids.
+ */
+public final class ShardKey {
+
+    public static final int BUCKET_BITS = 10;
+    public static final int BUCKETS = 1 << BUCKET_BITS;
+
+    private ShardKey() {
+    }
+
+    public static int bucketOfCode(String code) {
+        long packed = CouponCode.encode(code);
+        long key = packed != CouponCode.INVALID ? packed : code.hashCode();
+        // Murmur3 finalizer: packed codes differ mostly in the low characters.
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) (key & (BUCKETS - 1));
+    }
+
+    public static int bucketOfId(long id) {
+        return (int) (id & (BUCKETS - 1));
+    }
+
+    public static long id(long sequence, int bucket) {
+        return (sequence << BUCKET_BITS) | bucket;
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.couponservice.infra.shard;
+
+import com.project.couponservice.domain.Coupon;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Spreads the buckets evenly over the configured shards, moving as few as possible; used after a shard
+ * is added to {@code coupon.shard.shards}. A bucket is moved under its write lock: its rows are copied to
+ * the target, the assignment is switched and only then the rows are deleted from the source, so reads keep
+ * finding the coupons during the move. Other instances only see the new assignment after a restart, so
+ * rebalance with a single instance running.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "coupon", name = "store", havingValue = "sharded")
+public class ShardRebalancer {
+
+    private final CouponShards shards;
+    // A ReentrantLock rather than synchronized: rebalance() copies buckets over JDBC while holding it.
+    private final ReentrantLock rebalancing = new ReentrantLock();
+
+    public record Move(int bucket, int from, int to) {
+    }
+
+    public record Result(int bucketsMoved, long couponsMoved) {
+    }
+
+    public List<Move> plan() {
+        rebalancing.lock();
+        try {
+            return planMoves();
+        } finally {
+            rebalancing.unlock();
+        }
+    }
+
+    public Result rebalance() {
+        rebalancing.lock();
+        try {
+            List<Move> moves = planMoves();
+            long coupons = 0;
+            for (Move move : moves) {
+                coupons += move(move.bucket(), move.to());
+            }
+            log.info("Rebalanceamento concluído: {} buckets e {} cupons movidos", moves.size(), coupons);
+            return new Result(moves.size(), coupons);
+        } finally {
+            rebalancing.unlock();
+        }
+    }
+
+    private List<Move> planMoves() {
+        int shardCount = shards.all().size();
+        int[] assignment = shards.buckets().snapshot();
+        List<Deque<Integer>> owned = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            owned.add(new ArrayDeque<>());
+        }
+        for (int bucket = 0; bucket < assignment.length; bucket++) {
+            owned.get(assignment[bucket]).add(bucket);
+        }
+
+        int[] quota = new int[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            quota[shard] = ShardKey.BUCKETS / shardCount + (shard < ShardKey.BUCKETS % shardCount ? 1 : 0);
+        }
+
+        List<Move> moves = new ArrayList<>();
+        int receiver = 0;
+        for (int donor = 0; donor < shardCount; donor++) {
+            while (owned.get(donor).size() > quota[donor]) {
+                while (owned.get(receiver).size() >= quota[receiver]) {
+                    receiver++;
+                }
+                int bucket = owned.get(donor).pollLast();
+                owned.get(receiver).add(bucket);
+                moves.add(new Move(bucket, donor, receiver));
+            }
+        }
+        return moves;
+    }
+
+    public int move(int bucket, int to) {
+        Lock lock = shards.buckets().exclusiveLock(bucket);
+        lock.lock();
+        try {
+            CouponShard source = shards.forBucket(bucket);
+            if (source.index() == to) {
+                return 0;
+            }
+            CouponShard target = shards.get(to);
+            List<Coupon> coupons = source.findBucket(bucket);
+            target.transactions().executeWithoutResult(status -> {
+                target.deleteBucket(bucket);
+                if (!coupons.isEmpty()) {
+                    target.insertAll(coupons);
+                }
+            });
+            shards.buckets().assign(bucket, to);
+            source.deleteBucket(bucket);
+            return coupons.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.project.couponservice.infra.shard;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponMetadata;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
+import com.project.couponservice.infra.thread.CouponThreads;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+/**
+ * {@link CouponPort} over several databases, partitioned by code hash (see {@link ShardKey}). Lookups by id
+ * or code and the duplicate-code check touch a single shard; batches are split per shard; scans and
+ * searches query every shard in parallel and merge the pages in the requested order.
+ *
+ * <p>Each shard commits on its own. A batch that fails on one shard deletes what the other shards already
+ * inserted, so {@link #saveAll} normally saves every coupon or none. If that cleanup fails as well, the
+ * coupons left behind are logged and the original failure is still thrown.
+ */
+@Slf4j
+@Repository
+@Qualifier("couponStore")
+@Timed(value = "coupon.port", histogram = true)
+@ConditionalOnProperty(prefix = "coupon", name = "store", havingValue = "sharded")
+public class ShardedCouponPort implements CouponPort {
+
+    private static final Comparator<Coupon> BY_ID = Comparator.comparing(Coupon::getId);
+    private static final Comparator<Coupon> BY_EXPIRATION_AND_ID =
+            Comparator.comparing(Coupon::getExpirationDate).thenComparing(Coupon::getId);
+
+    private final CouponShards shards;
+    private final IdAllocator[] allocators;
+    private final Executor scatterExecutor;
+
+    public ShardedCouponPort(CouponShards shards, ShardingProperties properties, CouponThreads threads) {
+        this.shards = shards;
+        this.allocators = new IdAllocator[shards.all().size()];
+        for (CouponShard shard : shards.all()) {
+            allocators[shard.index()] = new IdAllocator(shard, properties.getMaxShards(), properties.getIdBlockSize());
+        }
+        this.scatterExecutor = threads.executor("coupon-shard-", shards.all().size());
+    }
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        int bucket = ShardKey.bucketOfCode(coupon.getCode());
+        Lock lock = shards.buckets().sharedLock(bucket);
+        lock.lock();
+        try {
+            CouponShard shard = shards.forBucket(bucket);
+            Coupon withId = withId(coupon, shard, bucket);
+            shard.insertAll(List.of(withId));
+            return withId;
+        } catch (DataIntegrityViolationException ex) {
+            throw DomainException.rejected(RejectionReason.DUPLICATE_CODE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Coupon> saveAll(List<Coupon> coupons) {
+        Set<Integer> buckets = new TreeSet<>();
+        for (Coupon coupon : coupons) {
+            buckets.add(ShardKey.bucketOfCode(coupon.getCode()));
+        }
+        List<Lock> locks = lockShared(buckets);
+        try {
+            List<Coupon> saved = new ArrayList<>(coupons.size());
+            Map<CouponShard, List<Coupon>> byShard = new LinkedHashMap<>();
+            for (Coupon coupon : coupons) {
+                int bucket = ShardKey.bucketOfCode(coupon.getCode());
+                CouponShard shard = shards.forBucket(bucket);
+                Coupon withId = withId(coupon, shard, bucket);
+                saved.add(withId);
+                byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(withId);
+            }
+
+            Map<CouponShard, Optional<RuntimeException>> outcomes = gather(byShard.keySet(), shard -> {
+                try {
+                    shard.transactions().executeWithoutResult(status -> shard.insertAll(byShard.get(shard)));
+                    return Optional.empty();
+                } catch (RuntimeException ex) {
+                    return Optional.of(ex);
+                }
+            });
+            Optional<RuntimeException> failure = outcomes.values().stream().flatMap(Optional::stream).findFirst();
+            if (failure.isPresent()) {
+                outcomes.forEach((shard, outcome) -> {
+                    if (outcome.isEmpty()) {
+                        deleteInserted(shard, byShard.get(shard));
+                    }
+                });
+                if (failure.get() instanceof DataIntegrityViolationException) {
+                    throw DomainException.rejected(RejectionReason.DUPLICATE_CODE);
+                }
+                throw failure.get();
+            }
+            return saved;
+        } finally {
+            locks.forEach(Lock::unlock);
+        }
+    }
+
+    @Override
+    public Optional<Coupon> findById(Long id) {
+        return shards.forId(id).findById(id);
+    }
+
+    @Override
+    public List<Coupon> findAllByIds(Collection<Long> ids) {
+        Map<CouponShard, Set<Long>> byShard = new LinkedHashMap<>();
+        for (Long id : ids) {
+            byShard.computeIfAbsent(shards.forId(id), key -> new HashSet<>()).add(id);
+        }
+        Map<Long, Coupon> found = new HashMap<>();
+        gather(byShard.keySet(), shard -> shard.findAllByIds(byShard.get(shard)))
+                .values().forEach(page -> page.forEach(coupon -> found.put(coupon.getId(), coupon)));
+        return inRequestOrder(ids, found);
+    }
+
+    @Override
+    public Optional<CouponMetadata> findMetadata(Long id) {
+        return shards.forId(id).findMetadata(id);
+    }
+
+    @Override
+    public Coupon update(Coupon coupon) {
+        Lock lock = shards.buckets().sharedLock(ShardKey.bucketOfId(coupon.getId()));
+        lock.lock();
+        try {
+            return shards.forId(coupon.getId()).update(coupon);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Coupon> findByCode(String code) {
+        return shards.forCode(code).findByCode(code);
+    }
+
+    @Override
+    public List<Coupon> findAllByCodes(Collection<String> codes) {
+        Map<CouponShard, Set<String>> byShard = groupCodes(codes);
+        Map<String, Coupon> found = new HashMap<>();
+        gather(byShard.keySet(), shard -> shard.findAllByCodes(byShard.get(shard)))
+                .values().forEach(page -> page.forEach(coupon -> found.put(coupon.getCode(), coupon)));
+        return inRequestOrder(codes, found);
+    }
+
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        Map<CouponShard, Set<String>> byShard = groupCodes(codes);
+        Set<String> existing = new HashSet<>();
+        gather(byShard.keySet(), shard -> shard.findExistingCodes(byShard.get(shard))).values()
+                .forEach(existing::addAll);
+        return existing;
+    }
+
+    @Override
+    public boolean redeem(Long id, LocalDateTime now) {
+        Lock lock = shards.buckets().sharedLock(ShardKey.bucketOfId(id));
+        lock.lock();
+        try {
+            return shards.forId(id).redeem(id, 1, now) == 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean[] redeemAll(List<Long> ids, LocalDateTime now) {
+        Set<Integer> buckets = new TreeSet<>();
+        for (Long id : ids) {
+            buckets.add(ShardKey.bucketOfId(id));
+        }
+        List<Lock> locks = lockShared(buckets);
+        try {
+            Map<CouponShard, Map<Long, List<Integer>>> byShard = new LinkedHashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                byShard.computeIfAbsent(shards.forId(ids.get(i)), key -> new LinkedHashMap<>())
+                        .computeIfAbsent(ids.get(i), key -> new ArrayList<>()).add(i);
+            }
+
+            boolean[] redeemed = new boolean[ids.size()];
+            gather(byShard.keySet(), shard -> shard.transactions().execute(status -> {
+                byShard.get(shard).forEach((id, positions) -> {
+                    if (positions.size() > 1 && shard.redeem(id, positions.size(), now) == 1) {
+                        positions.forEach(position -> redeemed[position] = true);
+                        return;
+                    }
+                    for (int position : positions) {
+                        redeemed[position] = shard.redeem(id, 1, now) == 1;
+                    }
+                });
+                return null;
+            }));
+            return redeemed;
+        } finally {
+            locks.forEach(Lock::unlock);
+        }
+    }
+
+    @Override
+    public List<Coupon> scan(CouponFilter filter, Long afterId, int limit) {
+        return merge(gather(shards.all(), shard -> shard.scan(filter, afterId, limit)), BY_ID, limit);
+    }
+
+    @Override
+    public List<Coupon> search(CouponFilter filter, CouponSearchCursor after, int limit) {
+        return merge(gather(shards.all(), shard -> shard.search(filter, after, limit)), BY_EXPIRATION_AND_ID, limit);
+    }
+
+    private Coupon withId(Coupon coupon, CouponShard shard, int bucket) {
+        long id = ShardKey.id(allocators[shard.index()].next(), bucket);
+        return Coupon.with(id, coupon.getCode(), coupon.getDescription(), coupon.getDiscountValue(),
+                coupon.getExpirationDate(), coupon.isPublished(), coupon.isDeleted(), coupon.getCreatedAt(),
+                coupon.getUpdatedAt(), coupon.getMaxRedemptions(), coupon.getRedeemedCount(), 0L);
+    }
+
+    private static void deleteInserted(CouponShard shard, List<Coupon> inserted) {
+        List<Long> ids = inserted.stream().map(Coupon::getId).toList();
+        try {
+            shard.deleteAllByIds(ids);
+        } catch (RuntimeException ex) {
+            log.error("Lote gravado parcialmente: não foi possível apagar os cupons {} do shard {}",
+                    ids, shard.index(), ex);
+        }
+    }
+
+    private List<Lock> lockShared(Set<Integer> buckets) {
+        List<Lock> locks = new ArrayList<>(buckets.size());
+        for (int bucket : buckets) {
+            Lock lock = shards.buckets().sharedLock(bucket);
+            lock.lock();
+            locks.add(lock);
+        }
+        return locks;
+    }
+
+    private Map<CouponShard, Set<String>> groupCodes(Collection<String> codes) {
+        Map<CouponShard, Set<String>> byShard = new LinkedHashMap<>();
+        for (String code : codes) {
+            byShard.computeIfAbsent(shards.forCode(code), key -> new HashSet<>()).add(code);
+        }
+        return byShard;
+    }
+
+    /**
+     * Runs the call on every shard, in parallel when there is more than one, and waits for all of them.
+     */
+    private <T> Map<CouponShard, T> gather(Collection<CouponShard> targets, Function<CouponShard, T> call) {
+        Map<CouponShard, T> results = new LinkedHashMap<>();
+        if (targets.size() == 1) {
+            CouponShard shard = targets.iterator().next();
+            results.put(shard, call.apply(shard));
+            return results;
+        }
+        Map<CouponShard, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        for (CouponShard shard : targets) {
+            futures.put(shard, CompletableFuture.supplyAsync(() -> call.apply(shard), scatterExecutor));
+        }
+        try {
+            futures.forEach((shard, future) -> results.put(shard, future.join()));
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return results;
+    }
+
+    private static List<Coupon> merge(Map<CouponShard, List<Coupon>> pages, Comparator<Coupon> order, int limit) {
+        List<Coupon> merged = new ArrayList<>();
+        pages.values().forEach(merged::addAll);
+        merged.sort(order);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    private static <K> List<Coupon> inRequestOrder(Collection<K> keys, Map<K, Coupon> found) {
+        List<Coupon> result = new ArrayList<>(found.size());
+        for (K key : keys) {
+            Coupon coupon = found.get(key);
+            if (coupon != null) {
+                result.add(coupon);
+            }
+        }
+        return result;
+    }
+}
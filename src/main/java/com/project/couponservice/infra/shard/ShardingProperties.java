@@ -0,0 +1,31 @@
+package com.project.couponservice.infra.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.shard")
+public class ShardingProperties {
+
+    /**
+     * Upper bound on the number of shards ever configured; it is part of the id allocation scheme, so it
+     * cannot change once coupons exist.
+     */
+    private int maxShards = 64;
+    private int idBlockSize = 50;
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username = "sa";
+        private String password = "";
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.couponservice.infra.shard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shows buckets and coupons per shard and the pending moves, and runs {@link ShardRebalancer#rebalance()}.
+ * Exposed over JMX ({@code org.springframework.boot:type=Endpoint,name=Shards}) by the {@code sharded}
+ * profile and left out of the web exposure: the write operation moves data and has no authentication.
+ */
+@Component
+@Endpoint(id = "shards")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "coupon", name = "store", havingValue = "sharded")
+public class ShardsEndpoint {
+
+    private final CouponShards shards;
+    private final ShardRebalancer rebalancer;
+
+    @ReadOperation
+    public Map<String, Object> shards() {
+        int[] buckets = new int[shards.all().size()];
+        for (int shard : shards.buckets().snapshot()) {
+            buckets[shard]++;
+        }
+        List<Map<String, Object>> details = new ArrayList<>();
+        for (CouponShard shard : shards.all()) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("shard", shard.index());
+            detail.put("buckets", buckets[shard.index()]);
+            detail.put("coupons", shard.count());
+            details.add(detail);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("shards", details);
+        body.put("pendingMoves", rebalancer.plan().size());
+        return body;
+    }
+
+    @WriteOperation
+    public ShardRebalancer.Result rebalance() {
+        return rebalancer.rebalance();
+    }
+}
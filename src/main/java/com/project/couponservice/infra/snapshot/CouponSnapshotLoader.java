@@ -0,0 +1,84 @@
+package com.project.couponservice.infra.snapshot;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.infra.datasource.RoutingContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Loads every coupon into the snapshot at startup, then every {@code coupon.snapshot.refresh-interval}
+ * reloads the coupons whose {@code updated_at} moved since the previous pass, so writes made by other
+ * instances reach this one. Each pass starts {@code refresh-overlap} before the previous one did, to cover
+ * transactions that were still committing and clock differences between instances. The same pass drops
+ * coupons that expired since they were loaded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponSnapshotLoader implements ApplicationRunner {
+
+    private final CouponPort couponPort;
+    private final InMemoryCouponSnapshot snapshot;
+
+    @Value("${coupon.snapshot.load-page-size:10000}")
+    private int pageSize;
+
+    @Value("${coupon.snapshot.refresh-overlap:5s}")
+    private Duration refreshOverlap;
+
+    private volatile LocalDateTime loadedFrom;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        load(CouponFilter.any());
+        loadedFrom = startedAt;
+
+        log.info("Snapshot de resgate carregado com {} cupons", snapshot.size());
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.snapshot.refresh-interval:PT5S}")
+    public void refreshChanges() {
+        LocalDateTime from = loadedFrom;
+        if (from == null) {
+            // The startup load has not finished yet.
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        int changed = load(CouponFilter.updatedSince(from.minus(refreshOverlap)));
+        int expired = snapshot.evictExpired(startedAt);
+        loadedFrom = startedAt;
+        log.debug("Snapshot de resgate atualizado com {} cupons alterados e {} expirados", changed, expired);
+    }
+
+    private int load(CouponFilter filter) {
+        int loaded = 0;
+        Long afterId = null;
+        List<Coupon> page;
+        RoutingContext.pinToPrimary();
+        try {
+            do {
+                page = couponPort.scan(filter, afterId, pageSize);
+                for (Coupon coupon : page) {
+                    snapshot.refresh(coupon);
+                    afterId = coupon.getId();
+                }
+                loaded += page.size();
+            } while (page.size() == pageSize);
+        } finally {
+            RoutingContext.clear();
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.couponservice.infra.snapshot;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSnapshotPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the expiration and redemption counts of every coupon that can still be redeemed; coupons that
+ * expire while loaded are moved out on each {@link CouponSnapshotLoader#refreshChanges()}. Coupons that can never become redeemable
+ * again (deleted, unpublished, expired or out of redemptions) only keep their rejection reason, in a map
+ * bounded by {@code coupon.snapshot.rejected.maximum-size} whose entries expire after
+ * {@code coupon.snapshot.rejected.expire-after-write}. An id the snapshot does not know, because it was
+ * created by another instance or its rejection expired, is read once from the {@link CouponPort}; ids that
+ * do not exist are remembered as {@link RejectionReason#NOT_FOUND} like any other rejection. Changes made
+ * by other instances arrive through {@link CouponSnapshotLoader#refreshChanges()}.
+ */
+@Component
+public class InMemoryCouponSnapshot implements CouponSnapshotPort, MeterBinder {
+
+    private final CouponPort couponPort;
+    private final Map<Long, RedeemableCoupon> redeemable = new ConcurrentHashMap<>();
+    private final Cache<Long, RejectionReason> rejected;
+
+    public InMemoryCouponSnapshot(CouponPort couponPort,
+                                  @Value("${coupon.snapshot.rejected.maximum-size:100000}") long rejectedMaximumSize,
+                                  @Value("${coupon.snapshot.rejected.expire-after-write:1h}") Duration rejectedExpireAfterWrite) {
+        this.couponPort = couponPort;
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(rejectedMaximumSize)
+                .expireAfterWrite(rejectedExpireAfterWrite)
+                .build();
+    }
+
+    @Override
+    public Optional<RejectionReason> checkRedeem(Long id, LocalDateTime now) {
+        RedeemableCoupon coupon = redeemable.get(id);
+        if (coupon != null) {
+            return coupon.checkRedeem(now);
+        }
+        RejectionReason reason = rejected.getIfPresent(id);
+        if (reason != null) {
+            return Optional.of(reason);
+        }
+        Optional<Coupon> loaded = couponPort.findById(id);
+        if (loaded.isEmpty()) {
+            rejected.put(id, RejectionReason.NOT_FOUND);
+            return Optional.of(RejectionReason.NOT_FOUND);
+        }
+        refresh(loaded.get());
+        return loaded.get().checkRedeem(now);
+    }
+
+    @Override
+    public void refresh(Coupon coupon) {
+        Optional<RejectionReason> reason = coupon.checkRedeem(LocalDateTime.now());
+        if (reason.isPresent()) {
+            rejected.put(coupon.getId(), reason.get());
+            redeemable.remove(coupon.getId());
+        } else {
+            redeemable.put(coupon.getId(), RedeemableCoupon.of(coupon));
+            rejected.invalidate(coupon.getId());
+        }
+    }
+
+    @Override
+    public void recordRedemption(Long id, LocalDateTime redeemedAt) {
+        redeemable.computeIfPresent(id, (key, current) -> {
+            RedeemableCoupon next = current.redeemed();
+            if (next.hasReachedRedemptionLimit()) {
+                rejected.put(key, RejectionReason.LIMIT_REACHED);
+                return null;
+            }
+            return next;
+        });
+    }
+
+    /**
+     * Moves coupons whose expiration has passed to the rejections, so the redeemable map does not grow
+     * with coupons that can never be redeemed again.
+     */
+    public int evictExpired(LocalDateTime now) {
+        int evicted = 0;
+        for (Map.Entry<Long, RedeemableCoupon> entry : redeemable.entrySet()) {
+            if (entry.getValue().isExpired(now) && redeemable.remove(entry.getKey(), entry.getValue())) {
+                rejected.put(entry.getKey(), RejectionReason.EXPIRED);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return redeemable.size() + (int) rejected.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("coupon.snapshot.size", redeemable, Map::size)
+                .tag("state", "redeemable")
+                .register(registry);
+        Gauge.builder("coupon.snapshot.size", rejected, Cache::estimatedSize)
+                .tag("state", "rejected")
+                .register(registry);
+    }
+}
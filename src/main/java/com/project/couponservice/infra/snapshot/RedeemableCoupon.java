@@ -0,0 +1,40 @@
+package com.project.couponservice.infra.snapshot;
+
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.RejectionReason;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * What the snapshot keeps of a redeemable coupon: only the fields that can still turn it into a rejection.
+ * Deleted and unpublished coupons never get here.
+ */
+record RedeemableCoupon(LocalDateTime expirationDate, Integer maxRedemptions, int redeemedCount) {
+
+    static RedeemableCoupon of(Coupon coupon) {
+        return new RedeemableCoupon(coupon.getExpirationDate(), coupon.getMaxRedemptions(), coupon.getRedeemedCount());
+    }
+
+    Optional<RejectionReason> checkRedeem(LocalDateTime now) {
+        if (isExpired(now)) {
+            return Optional.of(RejectionReason.EXPIRED);
+        }
+        if (hasReachedRedemptionLimit()) {
+            return Optional.of(RejectionReason.LIMIT_REACHED);
+        }
+        return Optional.empty();
+    }
+
+    boolean isExpired(LocalDateTime now) {
+        return !expirationDate.isAfter(now);
+    }
+
+    boolean hasReachedRedemptionLimit() {
+        return maxRedemptions != null && redeemedCount >= maxRedemptions;
+    }
+
+    RedeemableCoupon redeemed() {
+        return new RedeemableCoupon(expirationDate, maxRedemptions, redeemedCount + 1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.couponservice.infra.thread;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Threads for the service's own background work. With {@code spring.threads.virtual.enabled} on Java 21 they
+ * are virtual, like Tomcat's request threads and the {@code applicationTaskExecutor}; otherwise they are daemon
+ * platform threads.
+ */
+@Component
+public class CouponThreads implements DisposableBean {
+
+    private final boolean virtual;
+    private final List<ExecutorService> pools = new CopyOnWriteArrayList<>();
+
+    public CouponThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ThreadFactory threadFactory(String namePrefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(namePrefix).getVirtualThreadFactory();
+        }
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(namePrefix);
+        factory.setDaemon(true);
+        return factory;
+    }
+
+    /**
+     * Executor for fan-out calls that block on the database. Virtual mode starts a thread per task and leaves
+     * the limit to the connection pools; platform mode uses a fixed pool of {@code platformThreads}, shut down
+     * with the context.
+     */
+    public Executor executor(String namePrefix, int platformThreads) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(namePrefix);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(platformThreads, threadFactory(namePrefix));
+        pools.add(pool);
+        return pool;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(ExecutorService::shutdownNow);
+    }
+}
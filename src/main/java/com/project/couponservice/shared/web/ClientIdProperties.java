@@ -0,0 +1,20 @@
+package com.project.couponservice.shared.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Addresses of the proxies or gateways allowed to name the client in {@code X-Client-Id}. From any other
+ * address the header is ignored, since a client could change it on every request.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.client-id")
+public class ClientIdProperties {
+
+    private List<String> trustedProxies = new ArrayList<>();
+}
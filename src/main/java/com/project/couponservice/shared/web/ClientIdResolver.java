@@ -0,0 +1,33 @@
+package com.project.couponservice.shared.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Identifies the client of a request by its remote address. The {@code X-Client-Id} header takes over
+ * only on requests that come from one of {@code coupon.client-id.trusted-proxies}.
+ */
+@Component
+@EnableConfigurationProperties(ClientIdProperties.class)
+public class ClientIdResolver {
+
+    public static final String HEADER = "X-Client-Id";
+
+    private final Set<String> trustedProxies;
+
+    public ClientIdResolver(ClientIdProperties properties) {
+        this.trustedProxies = Set.copyOf(properties.getTrustedProxies());
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddress)) {
+            return remoteAddress;
+        }
+        String clientId = request.getHeader(HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : remoteAddress;
+    }
+}
@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS coupons (
+    id              BIGINT         NOT NULL PRIMARY KEY,
+    bucket          SMALLINT       NOT NULL,
+    code            VARCHAR(6)     NOT NULL UNIQUE,
+    description     VARCHAR(255)   NOT NULL,
+    discount_value  NUMERIC(38, 2) NOT NULL,
+    expiration_date TIMESTAMP(6)   NOT NULL,
+    published       BOOLEAN        NOT NULL,
+    deleted         BOOLEAN        NOT NULL,
+    created_at      TIMESTAMP(6)   NOT NULL,
+    updated_at      TIMESTAMP(6)   NOT NULL,
+    max_redemptions INTEGER,
+    redeemed_count  INTEGER        NOT NULL,
+    version         BIGINT         NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_coupons_bucket ON coupons (bucket);
+CREATE INDEX IF NOT EXISTS idx_coupons_deleted_published_expiration ON coupons (deleted, published, expiration_date, id);
+CREATE INDEX IF NOT EXISTS idx_coupons_deleted_expiration ON coupons (deleted, expiration_date, id);
+CREATE INDEX IF NOT EXISTS idx_coupons_updated_at ON coupons (updated_at, id);
+
+CREATE SEQUENCE IF NOT EXISTS coupons_block_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS shard_buckets (
+    bucket SMALLINT NOT NULL PRIMARY KEY,
+    shard  INTEGER  NOT NULL
+);
@@ -0,0 +1,19 @@
+package com.project.couponservice;
+
+import com.project.couponservice.infra.port.CachingCouponPort;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * Clears the coupon cache before each test. Test setups wipe the table with {@code repository.deleteAll()},
+ * behind the port, so a coupon cached by an earlier test class would otherwise still be served.
+ */
+public class CouponCacheResetListener extends AbstractTestExecutionListener {
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        testContext.getApplicationContext()
+                .getBeanProvider(CachingCouponPort.class)
+                .ifAvailable(CachingCouponPort::invalidateAll);
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.couponservice.api;
+
+import com.project.couponservice.api.dto.GetCouponResponse;
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponService;
+import com.project.couponservice.infra.repository.CouponRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ConditionalGetTest {
+
+    @Autowired
+    private CouponController controller;
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private RedeemCouponService redeemCouponService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void getByIdShouldSetValidators() {
+        Long id = create("ETG001");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<GetCouponResponse> result = controller.getById(id, webRequest(null, null, response));
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals("ETG001", result.getBody().getCode());
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        assertTrue(response.getHeader(HttpHeaders.ETAG).startsWith("\"" + id + "-"));
+        assertTrue(response.getHeader(HttpHeaders.ETAG).endsWith("-ACTIVE\""));
+        assertNotNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void getByIdShouldReturnNotModifiedForMatchingETag() {
+        Long id = create("ETG002");
+        String eTag = fetch(id).getHeader(HttpHeaders.ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<GetCouponResponse> result = controller.getById(id, webRequest(eTag, null, response));
+
+        assertNull(result);
+        assertEquals(304, response.getStatus());
+        assertEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getByIdShouldReturnNotModifiedForUnchangedSinceLastModified() {
+        Long id = create("ETG003");
+        String lastModified = fetch(id).getHeader(HttpHeaders.LAST_MODIFIED);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<GetCouponResponse> result = controller.getById(id, webRequest(null, lastModified, response));
+
+        assertNull(result);
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    void getByIdShouldReturnBodyAfterRedeem() {
+        Long id = create("ETG004");
+        String eTag = fetch(id).getHeader(HttpHeaders.ETAG);
+
+        redeemCouponService.execute(new RedeemCouponCommand(id));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ResponseEntity<GetCouponResponse> result = controller.getById(id, webRequest(eTag, null, response));
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(1, result.getBody().getRedeemedCount());
+        assertNotEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void eTagShouldNotDependOnWhetherCouponIsCached() {
+        Long id = create("ETG005");
+
+        String uncached = fetch(id).getHeader(HttpHeaders.ETAG);
+        String cached = fetch(id).getHeader(HttpHeaders.ETAG);
+
+        assertEquals(uncached, cached);
+    }
+
+    @Test
+    void getByIdShouldReadMetadataOnlyForConditionalRequests() {
+        Long id = create("ETG006");
+
+        long before = metadataReads();
+        String eTag = fetch(id).getHeader(HttpHeaders.ETAG);
+        assertEquals(before, metadataReads());
+
+        controller.getById(id, webRequest(eTag, null, new MockHttpServletResponse()));
+        assertEquals(before + 1, metadataReads());
+    }
+
+    private long metadataReads() {
+        Timer timer = meterRegistry.find("coupon.usecase").tag("usecase", "get-metadata").timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private MockHttpServletResponse fetch(Long id) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getById(id, webRequest(null, null, response));
+        return response;
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch, String ifModifiedSince,
+                                                MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/coupons");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (ifModifiedSince != null) {
+            request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, ifModifiedSince);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private Long create(String code) {
+        return createCouponService.execute(new CreateCouponCommand(code, "Desc", BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1), true)).id();
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.couponservice.api;
+
+import com.project.couponservice.api.exception.GlobalExceptionHandler;
+import com.project.couponservice.application.get.GetCouponCommand;
+import com.project.couponservice.application.get.GetCouponUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "coupon.cache.enabled=false"
+})
+class ConnectionPoolGateTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private GetCouponUseCase getCouponUseCase;
+
+    @Autowired
+    private GlobalExceptionHandler exceptionHandler;
+
+    @Test
+    void shouldAnswerOverloadedWhenNoConnectionIsFreedInTime() throws Exception {
+        RuntimeException failure;
+        try (Connection held = dataSource.getConnection()) {
+            failure = assertThrows(RuntimeException.class,
+                    () -> getCouponUseCase.execute(new GetCouponCommand(1L)));
+        }
+
+        assertInstanceOf(NestedRuntimeException.class, failure);
+        ResponseEntity<Map<String, String>> response =
+                exceptionHandler.handleConnectionUnavailable((NestedRuntimeException) failure);
+
+        assertEquals(503, response.getStatusCode().value());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Serviço sobrecarregado, tente novamente.", response.getBody().get("Erro"));
+    }
+
+    @Test
+    void shouldNotTreatOtherResourceFailuresAsOverload() {
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("Banco indisponível");
+
+        assertSame(failure, assertThrows(DataAccessResourceFailureException.class,
+                () -> exceptionHandler.handleConnectionUnavailable(failure)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.couponservice.api;
+
+import com.project.couponservice.api.dto.CreateCouponRequest;
+import com.project.couponservice.api.idempotency.IdempotencyKeyReusedException;
+import com.project.couponservice.api.idempotency.IdempotentRequests;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class IdempotentRequestsTest {
+
+    @Autowired
+    private CouponController controller;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void createShouldReplayStoredResponseForSameKey() {
+        String key = UUID.randomUUID().toString();
+        CreateCouponRequest request = request("IDM001", null);
+
+        ResponseEntity<?> first = controller.create(key, request);
+        ResponseEntity<?> retry = controller.create(key, request);
+
+        assertEquals(201, first.getStatusCode().value());
+        assertEquals(201, retry.getStatusCode().value());
+        assertArrayEquals((byte[]) first.getBody(), (byte[]) retry.getBody());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotentRequests.REPLAYED_HEADER));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void createShouldRejectSameKeyWithDifferentRequest() {
+        String key = UUID.randomUUID().toString();
+        controller.create(key, request("IDM002", null));
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> controller.create(key, request("IDM003", null)));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void redeemShouldRunOnceForConcurrentDuplicates() throws Exception {
+        var created = controller.create(null, request("IDM004", null));
+        Long id = repository.findByCode("IDM004").orElseThrow().getId();
+        assertEquals(201, created.getStatusCode().value());
+        String key = UUID.randomUUID().toString();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<ResponseEntity<?>>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(executor.submit(() -> controller.redeem(key, id)));
+            }
+            for (Future<ResponseEntity<?>> future : futures) {
+                assertEquals(200, future.get().getStatusCode().value());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, repository.findById(id).orElseThrow().getRedeemedCount());
+    }
+
+    @Test
+    void redeemShouldReplayStoredRejection() {
+        controller.create(null, request("IDM005", 1));
+        Long id = repository.findByCode("IDM005").orElseThrow().getId();
+        controller.redeem(null, id);
+        String key = UUID.randomUUID().toString();
+
+        ResponseEntity<?> rejected = controller.redeem(key, id);
+        ResponseEntity<?> retry = controller.redeem(key, id);
+
+        assertEquals(400, rejected.getStatusCode().value());
+        assertEquals(400, retry.getStatusCode().value());
+        assertArrayEquals((byte[]) rejected.getBody(), (byte[]) retry.getBody());
+        assertEquals("{\"Erro\":\"O cupom atingiu o limite de resgates.\"}",
+                new String((byte[]) retry.getBody(), StandardCharsets.UTF_8));
+        assertEquals(1, repository.findById(id).orElseThrow().getRedeemedCount());
+    }
+
+    private CreateCouponRequest request(String code, Integer maxRedemptions) {
+        return new CreateCouponRequest(code, "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1).withNano(0),
+                true, maxRedemptions);
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.couponservice.api;
+
+import com.project.couponservice.domain.ports.IdempotencyStorePort;
+import com.project.couponservice.domain.ports.IdempotencyStorePort.StoredResponse;
+import com.project.couponservice.infra.idempotency.JpaIdempotencyStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "coupon.idempotency.store=jpa")
+class JpaIdempotencyStoreTest {
+
+    @Autowired
+    private IdempotencyStorePort store;
+
+    @Test
+    void saveShouldKeepTheFirstResponseForAKey() {
+        assertInstanceOf(JpaIdempotencyStore.class, store);
+        String key = "redeem:" + UUID.randomUUID();
+        StoredResponse first = new StoredResponse("a".repeat(64), 200, "{\"first\":true}".getBytes(StandardCharsets.UTF_8));
+        StoredResponse second = new StoredResponse("b".repeat(64), 422, "{\"first\":false}".getBytes(StandardCharsets.UTF_8));
+
+        store.save(key, first);
+        store.save(key, second);
+
+        StoredResponse stored = store.find(key).orElseThrow();
+        assertEquals(first.fingerprint(), stored.fingerprint());
+        assertEquals(200, stored.status());
+        assertArrayEquals(first.body(), stored.body());
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.couponservice.api;
+
+import com.project.couponservice.api.limit.LoadSheddingFilter;
+import com.project.couponservice.shared.web.ClientIdResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "coupon.limiter.write.initial-limit=1",
+        "coupon.limiter.write.min-limit=1",
+        "coupon.limiter.write.max-limit=1",
+        "coupon.limiter.client.enabled=true",
+        "coupon.limiter.client.rate-per-second=0.01",
+        "coupon.limiter.client.burst=2",
+        "coupon.client-id.trusted-proxies=127.0.0.1"
+})
+class LoadSheddingFilterTest {
+
+    @Autowired
+    private LoadSheddingFilter filter;
+
+    @Test
+    void shouldShedWritesAboveLimitWithRetryAfter() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<MockHttpServletResponse> inFlight = CompletableFuture.supplyAsync(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                filter.doFilter(request("POST", "/coupons", "shed-1"), response, (req, res) -> {
+                    entered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return response;
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/coupons", "shed-2"), shed, (req, res) -> fail("não deveria executar"));
+        release.countDown();
+
+        assertEquals(503, shed.getStatus());
+        assertEquals("1", shed.getHeader("Retry-After"));
+        assertTrue(shed.getContentAsString().contains("Erro"));
+        assertEquals(200, inFlight.get(5, TimeUnit.SECONDS).getStatus());
+
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/coupons/1", "shed-3"), read, (req, res) -> { });
+        assertEquals(200, read.getStatus());
+    }
+
+    @Test
+    void shouldRateLimitClientAboveBurst() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse ok = new MockHttpServletResponse();
+            filter.doFilter(request("GET", "/coupons/1", "rate-client"), ok, (req, res) -> { });
+            assertEquals(200, ok.getStatus());
+        }
+
+        MockHttpServletResponse limited = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/coupons/1", "rate-client"), limited, (req, res) -> fail("não deveria executar"));
+
+        assertEquals(429, limited.getStatus());
+        assertTrue(Long.parseLong(limited.getHeader("Retry-After")) >= 1);
+
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/coupons/1", "rate-other"), other, (req, res) -> { });
+        assertEquals(200, other.getStatus());
+    }
+
+    @Test
+    void shouldIgnoreClientHeaderFromUntrustedAddress() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse ok = new MockHttpServletResponse();
+            filter.doFilter(untrusted("rotated-" + i), ok, (req, res) -> { });
+            assertEquals(200, ok.getStatus());
+        }
+
+        MockHttpServletResponse limited = new MockHttpServletResponse();
+        filter.doFilter(untrusted("rotated-2"), limited, (req, res) -> fail("não deveria executar"));
+
+        assertEquals(429, limited.getStatus());
+    }
+
+    private static MockHttpServletRequest untrusted(String clientId) {
+        MockHttpServletRequest request = request("GET", "/coupons/1", clientId);
+        request.setRemoteAddr("10.0.0.9");
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader(ClientIdResolver.HEADER, clientId);
+        return request;
+    }
+}
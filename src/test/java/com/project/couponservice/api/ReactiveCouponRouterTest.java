@@ -0,0 +1,145 @@
+package com.project.couponservice.api;
+
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactiveCouponRouterTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldCreateGetRedeemAndDelete() {
+        Long id = create("RCT001", true, LocalDateTime.now().plusDays(10));
+
+        client.get().uri("/coupons/{id}", id).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("RCT001")
+                .jsonPath("$.status").isEqualTo("ACTIVE")
+                .jsonPath("$.redeemedCount").isEqualTo(0);
+
+        client.post().uri("/coupons/{id}/redeem", id).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(id)
+                .jsonPath("$.redeemed").isEqualTo(true);
+        assertEquals(1, repository.findById(id).orElseThrow().getRedeemedCount());
+
+        client.delete().uri("/coupons/{id}", id).exchange()
+                .expectStatus().isNoContent();
+        assertTrue(repository.findById(id).orElseThrow().isDeleted());
+    }
+
+    @Test
+    void shouldAnswerNotFoundWithErrorBody() {
+        client.get().uri("/coupons/{id}", 999_999).exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.Erro").isEqualTo("Cupom não encontrado.");
+
+        client.post().uri("/coupons/{id}/redeem", 999_999).exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.Erro").exists();
+    }
+
+    @Test
+    void shouldRejectDuplicateCode() {
+        create("RCT002", true, LocalDateTime.now().plusDays(10));
+
+        client.post().uri("/coupons").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body("RCT002", true, LocalDateTime.now().plusDays(10)))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.Erro").isEqualTo("Já existe cupom cadastrado com o código informado.");
+    }
+
+    @Test
+    void shouldRejectInvalidFieldsLikeTheServletController() {
+        Map<String, Object> body = body("RCT003", true, LocalDateTime.now().plusDays(10));
+        body.put("discountValue", 0.1);
+
+        client.post().uri("/coupons").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.discountValue").isEqualTo("O valor do desconto deve ser no mínimo 0,5");
+    }
+
+    @Test
+    void shouldRejectRedeemOfUnpublishedCoupon() {
+        Long id = create("RCT004", false, LocalDateTime.now().plusDays(10));
+
+        client.post().uri("/coupons/{id}/redeem", id).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.Erro").isEqualTo("O coupon não esta mais publicado!");
+    }
+
+    @Test
+    void shouldRejectSecondDelete() {
+        Long id = create("RCT005", true, LocalDateTime.now().plusDays(10));
+        client.delete().uri("/coupons/{id}", id).exchange().expectStatus().isNoContent();
+
+        client.delete().uri("/coupons/{id}", id).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.Erro").isEqualTo("O cupom já foi excluído.");
+    }
+
+    @Test
+    void shouldAllocateDistinctIdsAcrossTheSequenceBlock() {
+        Long first = create("RCT006", true, LocalDateTime.now().plusDays(10));
+        Long second = create("RCT007", true, LocalDateTime.now().plusDays(10));
+
+        assertNotEquals(first, second);
+        assertEquals("RCT007", repository.findById(second).orElseThrow().getCode());
+    }
+
+    private Long create(String code, boolean published, LocalDateTime expirationDate) {
+        Map<?, ?> response = client.post().uri("/coupons").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body(code, published, expirationDate))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(response);
+        assertEquals(code, response.get("code"));
+        return ((Number) response.get("id")).longValue();
+    }
+
+    private static Map<String, Object> body(String code, boolean published, LocalDateTime expirationDate) {
+        return new HashMap<>(Map.of(
+                "code", code,
+                "description", "Cupom reativo",
+                "discountValue", 10,
+                "expirationDate", expirationDate.withNano(0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                "published", published));
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.couponservice.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = "coupon.stream.request-timeout=15m")
+class StreamingTimeoutTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private WebMvcProperties webMvcProperties;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void globalAsyncTimeoutShouldKeepTheDefault() {
+        assertNull(webMvcProperties.getAsync().getRequestTimeout());
+    }
+
+    @Test
+    void exportShouldUseTheStreamingTimeout() throws Exception {
+        MockHttpServletRequest request = mvc.perform(get("/coupons/export")).andReturn().getRequest();
+
+        assertTrue(request.isAsyncStarted());
+        assertEquals(Duration.ofMinutes(15).toMillis(), request.getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void importShouldUseTheStreamingTimeout() throws Exception {
+        MockHttpServletRequest request = mvc.perform(post("/coupons/import")
+                        .contentType("text/csv")
+                        .content("code,description,discountValue,expirationDate,published,maxRedemptions\n"))
+                .andReturn().getRequest();
+
+        assertTrue(request.isAsyncStarted());
+        assertEquals(Duration.ofMinutes(15).toMillis(), request.getAsyncContext().getTimeout());
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.couponservice.api.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void burstOfFailuresShouldDecreaseTheLimitOnce() throws InterruptedException {
+        AimdLimiter limiter = limiter(100);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        Thread.sleep(5);
+
+        // All of them were admitted before the first decrease: one round trip, one decrease.
+        for (int i = 0; i < 20; i++) {
+            limiter.release(RTT, true);
+        }
+
+        assertEquals(90, limiter.limit());
+    }
+
+    @Test
+    void failureOfRequestStartedAfterTheDecreaseShouldDecreaseAgain() throws InterruptedException {
+        AimdLimiter limiter = limiter(100);
+        Thread.sleep(5);
+        limiter.tryAcquire();
+        limiter.release(RTT, true);
+        Thread.sleep(5);
+
+        limiter.tryAcquire();
+        limiter.release(RTT, true);
+
+        assertEquals(81, limiter.limit());
+    }
+
+    @Test
+    void decreasesShouldStopAtTheMinimum() throws InterruptedException {
+        AimdLimiter limiter = limiter(12);
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(5);
+            limiter.tryAcquire();
+            limiter.release(RTT, true);
+        }
+
+        assertEquals(10, limiter.limit());
+    }
+
+    private static AimdLimiter limiter(int initialLimit) {
+        return new AimdLimiter(new LoadSheddingProperties.Budget(initialLimit, 10, 1000, Duration.ofMillis(50)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.retry.ConflictRetry;
+import com.project.couponservice.domain.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ConflictRetryTest {
+
+    @Autowired
+    private ConflictRetry conflictRetry;
+
+    @Test
+    void executeShouldRetryUntilTheWriteSucceeds() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = conflictRetry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConflictException("conflito");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void executeShouldGiveUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ConflictException.class, () -> conflictRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ConflictException("conflito");
+        }));
+        assertEquals(4, attempts.get());
+    }
+}
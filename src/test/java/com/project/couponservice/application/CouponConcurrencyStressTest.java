@@ -0,0 +1,205 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.delete.DeleteCouponCommand;
+import com.project.couponservice.application.delete.DeleteCouponService;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponService;
+import com.project.couponservice.domain.ConflictException;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers redeem and delete concurrently and checks the invariants that must hold whatever the concurrency
+ * strategy: no redemption that starts after a delete has returned is accepted, the persisted count never
+ * exceeds the limit and equals the number of accepted redemptions (no lost updates). Each run prints its
+ * throughput and conflict rate (share of rejected operations). Run with {@code mvn test -Pstress}.
+ */
+@Tag("stress")
+@SpringBootTest
+class CouponConcurrencyStressTest {
+
+    private static final int[] THREAD_COUNTS = {1, 8, 64, 500};
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private RedeemCouponService redeemCouponService;
+
+    @Autowired
+    private DeleteCouponService deleteCouponService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    private final AtomicInteger codeSequence = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void singleCouponShouldHonourLimitAndDeleteUnderContention() throws InterruptedException {
+        for (int threads : THREAD_COUNTS) {
+            int operations = Math.max(2_000, threads * 8);
+            int limit = operations / 2;
+            int deleteAt = operations * 3 / 4;
+            Long id = createCoupon(limit);
+
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicLong deletedAt = new AtomicLong(Long.MAX_VALUE);
+            AtomicInteger acceptedAfterDelete = new AtomicInteger();
+
+            StressRun run = run("single coupon", threads, operations, index -> {
+                if (index == deleteAt) {
+                    deleteCouponService.execute(new DeleteCouponCommand(id));
+                    deletedAt.set(System.nanoTime());
+                    return;
+                }
+                long startedAt = System.nanoTime();
+                redeemCouponService.execute(new RedeemCouponCommand(id));
+                accepted.incrementAndGet();
+                if (startedAt > deletedAt.get()) {
+                    acceptedAfterDelete.incrementAndGet();
+                }
+            });
+            run.print();
+
+            var persisted = repository.findById(id).orElseThrow();
+            assertTrue(persisted.isDeleted());
+            assertEquals(0, acceptedAfterDelete.get(), "redemptions accepted after delete");
+            assertEquals(accepted.get(), persisted.getRedeemedCount(), "lost or phantom redemptions");
+            assertTrue(persisted.getRedeemedCount() <= limit, "redemption limit exceeded");
+        }
+    }
+
+    @Test
+    void manyCouponsShouldKeepCountsConsistentUnderContention() throws InterruptedException {
+        int coupons = 100;
+        int limit = 20;
+        for (int threads : THREAD_COUNTS) {
+            int operations = Math.max(4_000, threads * 8);
+            long[] ids = new long[coupons];
+            for (int i = 0; i < coupons; i++) {
+                ids[i] = createCoupon(limit);
+            }
+
+            AtomicIntegerArray accepted = new AtomicIntegerArray(coupons);
+            AtomicLongArray deletedAt = new AtomicLongArray(coupons);
+            AtomicInteger acceptedAfterDelete = new AtomicInteger();
+
+            StressRun run = run("many coupons", threads, operations, index -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int coupon = random.nextInt(coupons);
+                if (random.nextInt(100) < 2) {
+                    deleteCouponService.execute(new DeleteCouponCommand(ids[coupon]));
+                    deletedAt.compareAndSet(coupon, 0, System.nanoTime());
+                    return;
+                }
+                long startedAt = System.nanoTime();
+                redeemCouponService.execute(new RedeemCouponCommand(ids[coupon]));
+                accepted.incrementAndGet(coupon);
+                long couponDeletedAt = deletedAt.get(coupon);
+                if (couponDeletedAt != 0 && startedAt > couponDeletedAt) {
+                    acceptedAfterDelete.incrementAndGet();
+                }
+            });
+            run.print();
+
+            assertEquals(0, acceptedAfterDelete.get(), "redemptions accepted after delete");
+            for (int i = 0; i < coupons; i++) {
+                var persisted = repository.findById(ids[i]).orElseThrow();
+                assertEquals(accepted.get(i), persisted.getRedeemedCount(), "lost or phantom redemptions");
+                assertTrue(persisted.getRedeemedCount() <= limit, "redemption limit exceeded");
+                assertEquals(deletedAt.get(i) != 0, persisted.isDeleted());
+            }
+        }
+    }
+
+    private Long createCoupon(Integer limit) {
+        String code = "S" + String.format("%05d", codeSequence.incrementAndGet());
+        return createCouponService.execute(new CreateCouponCommand(code, "Stress", BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1), true, limit)).id();
+    }
+
+    private StressRun run(String name, int threads, int operations, IntConsumer operation)
+            throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+        List<Throwable> unexpected = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    int index;
+                    while ((index = next.getAndIncrement()) < operations) {
+                        try {
+                            operation.accept(index);
+                        } catch (DomainException ex) {
+                            String reason = ex.getReason() != null ? ex.getReason().name() : "OTHER";
+                            rejections.computeIfAbsent(reason, key -> new LongAdder()).increment();
+                        } catch (ConflictException ex) {
+                            rejections.computeIfAbsent("CONFLICT", key -> new LongAdder()).increment();
+                        }
+                    }
+                } catch (Throwable ex) {
+                    synchronized (unexpected) {
+                        unexpected.add(ex);
+                    }
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES), "stress run did not finish");
+        long elapsed = System.nanoTime() - startedAt;
+
+        assertTrue(unexpected.isEmpty(), () -> "unexpected failures: " + unexpected);
+        Map<String, Long> rejected = new TreeMap<>();
+        rejections.forEach((reason, count) -> rejected.put(reason, count.sum()));
+        return new StressRun(getClass().getSimpleName() + " / " + name, threads, operations, elapsed, rejected);
+    }
+
+    private record StressRun(String name, int threads, int operations, long elapsedNanos,
+                             Map<String, Long> rejections) {
+
+        void print() {
+            long rejected = rejections.values().stream().mapToLong(Long::longValue).sum();
+            System.out.printf("%-60s threads=%4d ops=%6d throughput=%10.1f ops/s conflict rate=%5.1f%% %s%n",
+                    name, threads, operations, operations / (elapsedNanos / 1e9),
+                    100.0 * rejected / operations, rejections);
+        }
+    }
+}
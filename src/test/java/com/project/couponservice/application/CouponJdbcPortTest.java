@@ -0,0 +1,125 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.create.CreateCouponsBatchCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchService;
+import com.project.couponservice.application.delete.DeleteCouponCommand;
+import com.project.couponservice.application.delete.DeleteCouponService;
+import com.project.couponservice.application.get.GetCouponCommand;
+import com.project.couponservice.application.get.GetCouponService;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponService;
+import com.project.couponservice.domain.ConflictException;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.infra.port.CouponJdbcPort;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "coupon.store=jdbc")
+class CouponJdbcPortTest {
+
+    @Autowired
+    private CouponJdbcPort jdbcPort;
+
+    @Autowired
+    private CouponPort couponPort;
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private CreateCouponsBatchService createCouponsBatchService;
+
+    @Autowired
+    private GetCouponService getCouponService;
+
+    @Autowired
+    private RedeemCouponService redeemCouponService;
+
+    @Autowired
+    private DeleteCouponService deleteCouponService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void createdCouponShouldBeReadableThroughJpaToo() {
+        var created = createCouponService.execute(command("JDB001", 1));
+
+        assertEquals("JDB001", getCouponService.execute(new GetCouponCommand(created.id())).code());
+        assertEquals("JDB001", repository.findById(created.id()).orElseThrow().getCode());
+        assertEquals(0L, repository.findById(created.id()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void duplicateCodeShouldBeRejected() {
+        createCouponService.execute(command("JDB002", 1));
+
+        assertThrows(DomainException.class, () -> createCouponService.execute(command("JDB002", 1)));
+    }
+
+    @Test
+    void redeemAndDeleteShouldOnlyTouchTheirColumns() {
+        var created = createCouponService.execute(command("JDB003", 1));
+
+        assertTrue(redeemCouponService.execute(new RedeemCouponCommand(created.id())).redeemed());
+        deleteCouponService.execute(new DeleteCouponCommand(created.id()));
+
+        Coupon stored = jdbcPort.findById(created.id()).orElseThrow();
+        assertTrue(stored.isDeleted());
+        assertEquals(1, stored.getRedeemedCount());
+        assertEquals(2L, stored.getVersion());
+        assertEquals(new BigDecimal("10.00"), stored.getDiscountValue());
+    }
+
+    @Test
+    void updateWithStaleVersionShouldConflict() {
+        var created = createCouponService.execute(command("JDB004", 1));
+        Coupon stale = jdbcPort.findById(created.id()).orElseThrow();
+        jdbcPort.redeem(created.id(), LocalDateTime.now());
+
+        stale.delete();
+
+        assertThrows(ConflictException.class, () -> jdbcPort.update(stale));
+    }
+
+    @Test
+    void multiValueLookupsShouldKeepRequestOrder() {
+        createCouponsBatchService.execute(new CreateCouponsBatchCommand(List.of(
+                command("JDB005", 3), command("JDB006", 1), command("JDB007", 2))));
+
+        List<Coupon> byCodes = couponPort.findAllByCodes(List.of("JDB007", "NOPE00", "JDB005"));
+        assertEquals(List.of("JDB007", "JDB005"), byCodes.stream().map(Coupon::getCode).toList());
+
+        List<Coupon> byIds = jdbcPort.findAllByIds(List.of(byCodes.get(1).getId(), byCodes.get(0).getId()));
+        assertEquals(List.of("JDB005", "JDB007"), byIds.stream().map(Coupon::getCode).toList());
+
+        assertEquals(Set.of("JDB006"), jdbcPort.findExistingCodes(List.of("JDB006", "JDB999")));
+
+        List<Coupon> searched = jdbcPort.search(CouponFilter.any(), null, 10);
+        assertEquals(List.of("JDB006", "JDB007", "JDB005"), searched.stream().map(Coupon::getCode).toList());
+    }
+
+    private static CreateCouponCommand command(String code, int days) {
+        return new CreateCouponCommand(code, "Desc", BigDecimal.TEN, LocalDateTime.now().plusDays(days), true);
+    }
+}
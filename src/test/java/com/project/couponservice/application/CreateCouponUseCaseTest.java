@@ -4,7 +4,11 @@ import com.project.couponservice.application.create.CreateCouponCommand;
 import com.project.couponservice.application.create.CreateCouponOutput;
 import com.project.couponservice.application.create.CreateCouponService;
 import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.infra.entity.CouponJpaEntity;
 import com.project.couponservice.infra.repository.CouponRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +16,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,6 +30,12 @@ class CreateCouponUseCaseTest {
     @Autowired
     private CouponRepository repository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CouponPort couponPort;
+
     @BeforeEach
     void setUp() {
         repository.deleteAll();
@@ -75,4 +87,91 @@ class CreateCouponUseCaseTest {
         assertThrows(DomainException.class, () -> service.execute(duplicatedCode));
         assertEquals(1, repository.count());
     }
+
+    @Test
+    void executeShouldAllowCodeWhoseCouponNoLongerExists() {
+        CreateCouponCommand command = new CreateCouponCommand(
+                "IDX001",
+                "Test description",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        );
+        service.execute(command);
+        repository.deleteAll();
+
+        CreateCouponOutput output = service.execute(command);
+
+        assertEquals("IDX001", output.code());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void executeShouldThrowWhenCodeWasInsertedOutsideTheService() {
+        repository.save(new CouponJpaEntity(
+                null,
+                "IDX002",
+                "Inserted directly",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true,
+                false,
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                null,
+                0,
+                null
+        ));
+
+        assertThrows(DomainException.class, () -> service.execute(new CreateCouponCommand(
+                "idx-002",
+                "Another description",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        )));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void codeLookupsShouldSeeCodesTheIndexDoesNotKnow() {
+        // Inserted behind the port, as another instance would: the local code index never saw it.
+        repository.save(new CouponJpaEntity(
+                null,
+                "IDX003",
+                "Inserted directly",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true,
+                false,
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                null,
+                0,
+                null
+        ));
+
+        assertTrue(couponPort.findByCode("IDX003").isPresent());
+        assertEquals(Set.of("IDX003"), couponPort.findExistingCodes(List.of("IDX003", "IDX004")));
+    }
+
+    @Test
+    void executeShouldRecordUseCaseTimerAndRejectionReason() {
+        CreateCouponCommand command = new CreateCouponCommand(
+                "MTR001",
+                "Desc",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        );
+        var timer = meterRegistry.timer("coupon.usecase", "usecase", "create", "class",
+                CreateCouponService.class.getName(), "method", "execute", "exception", "none");
+        long before = timer.count();
+
+        service.execute(command);
+        var ex = assertThrows(DomainException.class, () -> service.execute(command));
+
+        assertEquals(before + 1, timer.count());
+        assertEquals(RejectionReason.DUPLICATE_CODE, ex.getReason());
+    }
 }
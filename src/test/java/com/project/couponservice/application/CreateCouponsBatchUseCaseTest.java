@@ -0,0 +1,97 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.create.CreateCouponsBatchCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchOutput;
+import com.project.couponservice.application.create.CreateCouponsBatchService;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CreateCouponsBatchUseCaseTest {
+
+    @Autowired
+    private CreateCouponsBatchService service;
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void executeShouldPersistEveryValidCoupon() {
+        List<CreateCouponCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            commands.add(command(String.format("B%05d", i)));
+        }
+
+        CreateCouponsBatchOutput output = service.execute(new CreateCouponsBatchCommand(commands));
+
+        assertEquals(2500, output.created());
+        assertEquals(0, output.failed());
+        assertEquals(2500, repository.count());
+        assertEquals("B01234", output.items().get(1234).code());
+        assertNotNull(output.items().get(1234).id());
+    }
+
+    @Test
+    void executeShouldReportFailuresPerItem() {
+        createCouponService.execute(command("EXIST1"));
+
+        CreateCouponsBatchOutput output = service.execute(new CreateCouponsBatchCommand(List.of(
+                command("NEW001"),
+                command("EXIST1"),
+                command("new-001"),
+                command("A1@"),
+                new CreateCouponCommand("NEW002", "Desc", BigDecimal.valueOf(0.1),
+                        LocalDateTime.now().plusDays(1), true),
+                command("NEW003")
+        )));
+
+        assertEquals(2, output.created());
+        assertEquals(4, output.failed());
+        assertTrue(output.items().get(0).isCreated());
+        assertFalse(output.items().get(1).isCreated());
+        assertFalse(output.items().get(2).isCreated());
+        assertFalse(output.items().get(3).isCreated());
+        assertFalse(output.items().get(4).isCreated());
+        assertTrue(output.items().get(5).isCreated());
+        assertEquals(3, repository.count());
+    }
+
+    @Test
+    void executeShouldReportMissingFieldsAndNullItemsPerItem() {
+        CreateCouponsBatchOutput output = service.execute(new CreateCouponsBatchCommand(Arrays.asList(
+                new CreateCouponCommand("NUL001", "Desc", null, LocalDateTime.now().plusDays(1), true),
+                null,
+                command("NUL002")
+        )));
+
+        assertEquals(1, output.created());
+        assertEquals("O campo valor desconto não pode ser nulo", output.items().get(0).error());
+        assertEquals("O cupom do lote não pode ser nulo.", output.items().get(1).error());
+        assertTrue(output.items().get(2).isCreated());
+    }
+
+    private CreateCouponCommand command(String code) {
+        return new CreateCouponCommand(code, "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true);
+    }
+}
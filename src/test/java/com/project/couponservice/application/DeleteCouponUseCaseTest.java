@@ -4,8 +4,10 @@ import com.project.couponservice.application.create.CreateCouponCommand;
 import com.project.couponservice.application.create.CreateCouponService;
 import com.project.couponservice.application.delete.DeleteCouponCommand;
 import com.project.couponservice.application.delete.DeleteCouponService;
+import com.project.couponservice.domain.ConflictException;
 import com.project.couponservice.domain.DomainException;
 import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.ports.CouponPort;
 import com.project.couponservice.infra.repository.CouponRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,9 @@ class DeleteCouponUseCaseTest {
     @Autowired
     private CouponRepository repository;
 
+    @Autowired
+    private CouponPort couponPort;
+
     @BeforeEach
     void setUp() {
         repository.deleteAll();
@@ -71,4 +76,24 @@ class DeleteCouponUseCaseTest {
 
         assertThrows(DomainException.class, () -> service.execute(new DeleteCouponCommand(created.id())));
     }
+
+    @Test
+    void updateShouldThrowConflictWhenCouponChangedSinceRead() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "VER001",
+                "Desc",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        ));
+        var stale = couponPort.findById(created.id()).orElseThrow();
+        assertTrue(couponPort.redeem(created.id(), LocalDateTime.now()));
+
+        stale.delete();
+
+        assertThrows(ConflictException.class, () -> couponPort.update(stale));
+        var persisted = repository.findById(created.id()).orElseThrow();
+        assertFalse(persisted.isDeleted());
+        assertEquals(1, persisted.getRedeemedCount());
+    }
 }
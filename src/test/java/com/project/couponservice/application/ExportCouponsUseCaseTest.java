@@ -0,0 +1,72 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchService;
+import com.project.couponservice.application.export.ExportCouponsCommand;
+import com.project.couponservice.application.export.ExportCouponsOutput;
+import com.project.couponservice.application.export.ExportCouponsService;
+import com.project.couponservice.application.get.GetCouponOutput;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ExportCouponsUseCaseTest {
+
+    @Autowired
+    private ExportCouponsService service;
+
+    @Autowired
+    private CreateCouponsBatchService createCouponsBatchService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<CreateCouponCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            commands.add(new CreateCouponCommand(String.format("X%05d", i), "Desc", BigDecimal.ONE,
+                    base.plusDays(i % 10), i % 2 == 0));
+        }
+        createCouponsBatchService.execute(new CreateCouponsBatchCommand(commands));
+    }
+
+    @Test
+    void executeShouldStreamEveryCouponInIdOrder() {
+        List<GetCouponOutput> exported = new ArrayList<>();
+
+        ExportCouponsOutput output = service.execute(new ExportCouponsCommand(null, null, null, null), exported::add);
+
+        assertEquals(2500, output.exported());
+        assertEquals(2500, exported.size());
+        for (int i = 1; i < exported.size(); i++) {
+            assertTrue(exported.get(i - 1).id() < exported.get(i).id());
+        }
+        assertEquals("ACTIVE", exported.get(0).status());
+    }
+
+    @Test
+    void executeShouldApplyFilters() {
+        List<GetCouponOutput> exported = new ArrayList<>();
+        LocalDateTime limit = LocalDateTime.now().plusDays(3);
+
+        service.execute(new ExportCouponsCommand(true, false, null, limit), exported::add);
+
+        assertEquals(500, exported.size());
+        assertTrue(exported.stream().allMatch(GetCouponOutput::published));
+        assertTrue(exported.stream().noneMatch(coupon -> coupon.expirationDate().isAfter(limit)));
+    }
+}
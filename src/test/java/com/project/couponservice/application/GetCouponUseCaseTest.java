@@ -2,11 +2,17 @@ package com.project.couponservice.application;
 
 import com.project.couponservice.application.create.CreateCouponCommand;
 import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.delete.DeleteCouponCommand;
+import com.project.couponservice.application.delete.DeleteCouponService;
 import com.project.couponservice.application.get.GetCouponCommand;
 import com.project.couponservice.application.get.GetCouponService;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponService;
 import com.project.couponservice.domain.NotFoundException;
 import com.project.couponservice.infra.entity.CouponJpaEntity;
 import com.project.couponservice.infra.repository.CouponRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,9 +32,18 @@ class GetCouponUseCaseTest {
     @Autowired
     private CreateCouponService createCouponService;
 
+    @Autowired
+    private DeleteCouponService deleteCouponService;
+
+    @Autowired
+    private RedeemCouponService redeemCouponService;
+
     @Autowired
     private CouponRepository repository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         repository.deleteAll();
@@ -67,7 +82,10 @@ class GetCouponUseCaseTest {
                 true,
                 false,
                 LocalDateTime.now().minusDays(1),
-                LocalDateTime.now().minusHours(2)
+                LocalDateTime.now().minusHours(2),
+                null,
+                0,
+                null
         ));
 
         var output = service.execute(new GetCouponCommand(expired.getId()));
@@ -87,7 +105,10 @@ class GetCouponUseCaseTest {
                 true,
                 true,
                 LocalDateTime.now().minusDays(2),
-                LocalDateTime.now().minusHours(3)
+                LocalDateTime.now().minusHours(3),
+                null,
+                0,
+                null
         ));
 
         var output = service.execute(new GetCouponCommand(deleted.getId()));
@@ -100,4 +121,65 @@ class GetCouponUseCaseTest {
     void executeShouldThrowWhenCouponDoesNotExist() {
         assertThrows(NotFoundException.class, () -> service.execute(new GetCouponCommand(99L)));
     }
+
+    @Test
+    void executeShouldReflectDeleteAfterCouponWasRead() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "CAC123",
+                "Cupom em cache",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        ));
+        assertEquals("ACTIVE", service.execute(new GetCouponCommand(created.id())).status());
+
+        deleteCouponService.execute(new DeleteCouponCommand(created.id()));
+
+        var output = service.execute(new GetCouponCommand(created.id()));
+        assertEquals("DELETED", output.status());
+        assertTrue(output.deleted());
+    }
+
+    @Test
+    void executeShouldReflectRedeemAfterCouponWasRead() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "CAC456",
+                "Cupom em cache",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        ));
+        assertEquals(0, service.execute(new GetCouponCommand(created.id())).redeemedCount());
+
+        redeemCouponService.execute(new RedeemCouponCommand(created.id()));
+
+        assertEquals(1, service.execute(new GetCouponCommand(created.id())).redeemedCount());
+    }
+
+    @Test
+    void executeShouldNotCheckOutConnectionOnCacheHit() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "HIT123",
+                "Cupom em cache",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        ));
+        service.execute(new GetCouponCommand(created.id()));
+
+        // The scheduled snapshot refresh also borrows connections, so allow a few attempts for a quiet window.
+        boolean hitWithoutConnection = false;
+        for (int attempt = 0; attempt < 5 && !hitWithoutConnection; attempt++) {
+            long before = connectionAcquisitions();
+            service.execute(new GetCouponCommand(created.id()));
+            hitWithoutConnection = connectionAcquisitions() == before;
+        }
+        assertTrue(hitWithoutConnection);
+    }
+
+    private long connectionAcquisitions() {
+        return meterRegistry.find("hikaricp.connections.acquire").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
 }
@@ -0,0 +1,112 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponOutput;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.get.GetCouponOutput;
+import com.project.couponservice.application.get.GetCouponsCommand;
+import com.project.couponservice.application.get.GetCouponsOutput;
+import com.project.couponservice.application.get.GetCouponsService;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.infra.port.CachingCouponPort;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class GetCouponsUseCaseTest {
+
+    @Autowired
+    private GetCouponsService service;
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Autowired
+    @Qualifier("couponStore")
+    private CouponPort couponStore;
+
+    private CreateCouponOutput first;
+    private CreateCouponOutput second;
+    private CreateCouponOutput third;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        first = create("MGT001");
+        second = create("MGT002");
+        third = create("MGT003");
+    }
+
+    @Test
+    void executeShouldReturnCouponsByIdInRequestOrder() {
+        GetCouponsOutput output = service.execute(new GetCouponsCommand(
+                List.of(third.id(), 999_999L, first.id(), second.id()), null));
+
+        assertEquals(List.of(third.id(), first.id(), second.id()),
+                output.coupons().stream().map(GetCouponOutput::id).toList());
+        assertEquals(List.of("999999"), output.notFound());
+    }
+
+    @Test
+    void cachedMultiGetShouldLoadMissesOnTheCallingThread() {
+        Set<Thread> loaders = ConcurrentHashMap.newKeySet();
+        CouponPort recording = (CouponPort) Proxy.newProxyInstance(CouponPort.class.getClassLoader(),
+                new Class<?>[]{CouponPort.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAllByIds")) {
+                        loaders.add(Thread.currentThread());
+                    }
+                    try {
+                        return method.invoke(couponStore, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                });
+        CachingCouponPort cachingPort = new CachingCouponPort(recording, 100, Duration.ofMinutes(1), false, Duration.ofSeconds(2));
+
+        assertEquals(2, cachingPort.findAllByIds(List.of(first.id(), second.id())).size());
+        assertEquals(3, cachingPort.findAllByIds(List.of(first.id(), second.id(), third.id())).size());
+
+        assertEquals(Set.of(Thread.currentThread()), loaders);
+    }
+
+    @Test
+    void executeShouldNormalizeCodes() {
+        GetCouponsOutput output = service.execute(new GetCouponsCommand(null,
+                List.of("mgt-002", "MGT001", "ZZZ999", "A1@")));
+
+        assertEquals(List.of("MGT002", "MGT001"), output.coupons().stream().map(GetCouponOutput::code).toList());
+        assertEquals(List.of("ZZZ999", "A1@"), output.notFound());
+    }
+
+    @Test
+    void executeShouldRejectTooManyKeys() {
+        List<Long> ids = Collections.nCopies(501, first.id());
+
+        assertThrows(DomainException.class, () -> service.execute(new GetCouponsCommand(ids, null)));
+    }
+
+    private CreateCouponOutput create(String code) {
+        return createCouponService.execute(new CreateCouponCommand(code, "Desc", BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1), true));
+    }
+}
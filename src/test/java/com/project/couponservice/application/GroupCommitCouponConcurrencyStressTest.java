@@ -0,0 +1,11 @@
+package com.project.couponservice.application;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Same invariants and measurements as {@link CouponConcurrencyStressTest}, with redemptions going through the
+ * group-commit writer.
+ */
+@SpringBootTest(properties = "coupon.redeem.mode=group-commit")
+class GroupCommitCouponConcurrencyStressTest extends CouponConcurrencyStressTest {
+}
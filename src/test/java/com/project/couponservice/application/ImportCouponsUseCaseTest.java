@@ -0,0 +1,74 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.imports.ImportCouponLine;
+import com.project.couponservice.application.imports.ImportCouponsCommand;
+import com.project.couponservice.application.imports.ImportCouponsLineError;
+import com.project.couponservice.application.imports.ImportCouponsOutput;
+import com.project.couponservice.application.imports.ImportCouponsService;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ImportCouponsUseCaseTest {
+
+    @Autowired
+    private ImportCouponsService service;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void executeShouldImportEveryLineAcrossChunks() {
+        var lines = LongStream.rangeClosed(1, 3500)
+                .mapToObj(number -> ImportCouponLine.parsed(number, command(String.format("I%05d", number))))
+                .iterator();
+        List<ImportCouponsLineError> errors = new ArrayList<>();
+
+        ImportCouponsOutput output = service.execute(new ImportCouponsCommand(lines), errors::add);
+
+        assertEquals(3500, output.total());
+        assertEquals(3500, output.created());
+        assertEquals(0, output.failed());
+        assertTrue(errors.isEmpty());
+        assertEquals(3500, repository.count());
+    }
+
+    @Test
+    void executeShouldReportErrorsWithLineNumbers() {
+        var lines = List.of(
+                ImportCouponLine.parsed(2, command("IMP001")),
+                ImportCouponLine.unreadable(3, "IMP002", "Linha CSV inválida"),
+                ImportCouponLine.parsed(4, command("A1@")),
+                ImportCouponLine.parsed(5, command("IMP003"))
+        ).iterator();
+        List<ImportCouponsLineError> errors = new ArrayList<>();
+
+        ImportCouponsOutput output = service.execute(new ImportCouponsCommand(lines), errors::add);
+
+        assertEquals(4, output.total());
+        assertEquals(2, output.created());
+        assertEquals(2, output.failed());
+        assertEquals(List.of(3L, 4L), errors.stream().map(ImportCouponsLineError::lineNumber).sorted().toList());
+    }
+
+    private CreateCouponCommand command(String code) {
+        return new CreateCouponCommand(code, "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true);
+    }
+}
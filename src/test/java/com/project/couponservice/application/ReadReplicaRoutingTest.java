@@ -0,0 +1,170 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.get.GetCouponCommand;
+import com.project.couponservice.application.get.GetCouponService;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponService;
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.infra.datasource.ReadYourWritesFilter;
+import com.project.couponservice.infra.datasource.RoutingContext;
+import com.project.couponservice.infra.repository.CouponRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Primary and replica are two separate H2 databases here, so a read only finds what was copied to the
+ * replica and the routing is observable.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+        "spring.datasource.hikari.maximum-pool-size=7",
+        "coupon.datasource.routing.enabled=true",
+        "coupon.datasource.routing.replicas[0].url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "coupon.datasource.routing.read-your-writes-window=300ms"
+})
+class ReadReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private GetCouponService getCouponService;
+
+    @Autowired
+    private RedeemCouponService redeemCouponService;
+
+    @Autowired
+    private ReadYourWritesFilter readYourWritesFilter;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        repository.deleteAll();
+        replicate();
+    }
+
+    @Test
+    void readOnlyUseCaseShouldReadFromReplica() throws SQLException {
+        Long id = create("RPL001");
+
+        assertThrows(NotFoundException.class, () -> getCouponService.execute(new GetCouponCommand(id)));
+
+        replicate();
+        assertEquals("RPL001", getCouponService.execute(new GetCouponCommand(id)).code());
+    }
+
+    @Test
+    void pinnedReadShouldGoToPrimary() {
+        Long id = create("RPL002");
+
+        RoutingContext.pinToPrimary();
+        try {
+            assertEquals("RPL002", getCouponService.execute(new GetCouponCommand(id)).code());
+        } finally {
+            RoutingContext.clear();
+        }
+    }
+
+    @Test
+    void primaryPoolShouldKeepHikariSettings() {
+        create("RPL004");
+
+        assertEquals(7, meterRegistry.get("hikaricp.connections.max").tag("pool", "primary").gauge().value());
+    }
+
+    @Test
+    void cachedCouponShouldNotHideWriteFromPinnedReader() throws Exception {
+        Long id = create("RPL003");
+        replicate();
+        assertEquals(0, getCouponService.execute(new GetCouponCommand(id)).redeemedCount());
+
+        redeemCouponService.execute(new RedeemCouponCommand(id));
+
+        // Another client reads the replica, which has not caught up yet; that must not refill the cache.
+        assertEquals(0, getCouponService.execute(new GetCouponCommand(id)).redeemedCount());
+        RoutingContext.pinToPrimary();
+        try {
+            assertEquals(1, getCouponService.execute(new GetCouponCommand(id)).redeemedCount());
+        } finally {
+            RoutingContext.clear();
+        }
+
+        Thread.sleep(400);
+        replicate();
+        assertEquals(1, getCouponService.execute(new GetCouponCommand(id)).redeemedCount());
+    }
+
+    @Test
+    void readYourWritesWindowShouldPinOnlyTheWritingClient() throws Exception {
+        assertTrue(pinned("POST", "10.0.0.1"));
+        assertTrue(pinned("GET", "10.0.0.1"));
+        assertFalse(pinned("GET", "10.0.0.2"));
+
+        Thread.sleep(400);
+        assertFalse(pinned("GET", "10.0.0.1"));
+        assertFalse(RoutingContext.isPinnedToPrimary());
+    }
+
+    private boolean pinned(String method, String clientAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/coupons");
+        request.setRemoteAddr(clientAddress);
+        AtomicBoolean pinned = new AtomicBoolean();
+        readYourWritesFilter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> pinned.set(RoutingContext.isPinnedToPrimary()));
+        return pinned.get();
+    }
+
+    private Long create(String code) {
+        return createCouponService.execute(new CreateCouponCommand(code, "Desc", BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1), true)).id();
+    }
+
+    /**
+     * Stands in for replication: replaces the replica with a copy of the primary.
+     */
+    private static void replicate() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet rows = statement.executeQuery("SCRIPT")) {
+            while (rows.next()) {
+                script.add(rows.getString(1));
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
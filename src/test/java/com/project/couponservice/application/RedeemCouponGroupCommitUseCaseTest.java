@@ -0,0 +1,149 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponService;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.OverloadedException;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.infra.redeem.GroupCommitCouponRedemption;
+import com.project.couponservice.infra.thread.CouponThreads;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "coupon.redeem.mode=group-commit")
+class RedeemCouponGroupCommitUseCaseTest {
+
+    @Autowired
+    private RedeemCouponService service;
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Autowired
+    private CouponPort couponPort;
+
+    @Autowired
+    private CouponThreads threads;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void executeShouldApplyEveryConcurrentRedemption() throws Exception {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "GRP001", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true));
+
+        List<Boolean> results = redeemConcurrently(created.id(), 200);
+
+        assertTrue(results.stream().allMatch(Boolean.TRUE::equals));
+        assertEquals(200, repository.findById(created.id()).orElseThrow().getRedeemedCount());
+    }
+
+    @Test
+    void executeShouldNotExceedRedemptionLimitUnderConcurrency() throws Exception {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "GRP002", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true, 10));
+
+        List<Boolean> results = redeemConcurrently(created.id(), 50);
+
+        assertEquals(10, results.stream().filter(Boolean.TRUE::equals).count());
+        assertEquals(10, repository.findById(created.id()).orElseThrow().getRedeemedCount());
+    }
+
+    @Test
+    void executeShouldReportRejectionLikeDirectMode() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "GRP003", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), false));
+
+        var ex = assertThrows(DomainException.class, () -> service.execute(new RedeemCouponCommand(created.id())));
+        assertEquals("O coupon não esta mais publicado!", ex.getMessage());
+        assertThrows(NotFoundException.class, () -> service.execute(new RedeemCouponCommand(99L)));
+    }
+
+    @Test
+    void redeemShouldGiveUpWhenTheBatchIsNeverWritten() {
+        // The writer thread is never started, so nothing answers the queued redemption.
+        var redemption = new GroupCommitCouponRedemption(couponPort, threads, 10, 10, Duration.ofMillis(2),
+                Duration.ofMillis(100), Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        assertThrows(OverloadedException.class, () -> redemption.redeem(1L, LocalDateTime.now()));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void redeemShouldWaitForABatchAlreadyBeingWritten() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "GCM009", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true));
+        CouponPort slowPort = (CouponPort) Proxy.newProxyInstance(CouponPort.class.getClassLoader(),
+                new Class<?>[]{CouponPort.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("redeemAll")) {
+                        Thread.sleep(500);
+                    }
+                    try {
+                        return method.invoke(couponPort, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                });
+        var redemption = new GroupCommitCouponRedemption(slowPort, threads, 10, 10, Duration.ofMillis(2),
+                Duration.ofMillis(100), Duration.ofMillis(100));
+        ReflectionTestUtils.invokeMethod(redemption, "start");
+        try {
+            // The batch commits after the wait-timeout: the caller gets its outcome, not a 503 to retry on.
+            assertTrue(redemption.redeem(created.id(), LocalDateTime.now()));
+            assertEquals(1, repository.findById(created.id()).orElseThrow().getRedeemedCount());
+        } finally {
+            ReflectionTestUtils.invokeMethod(redemption, "stop");
+        }
+    }
+
+    private List<Boolean> redeemConcurrently(Long id, int requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        return service.execute(new RedeemCouponCommand(id)).redeemed();
+                    } catch (DomainException ex) {
+                        return false;
+                    }
+                }));
+            }
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.delete.DeleteCouponCommand;
+import com.project.couponservice.application.delete.DeleteCouponService;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponService;
+import com.project.couponservice.application.validate.ValidateCouponCommand;
+import com.project.couponservice.application.validate.ValidateCouponService;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.NotFoundException;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class RedeemCouponUseCaseTest {
+
+    @Autowired
+    private RedeemCouponService service;
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private DeleteCouponService deleteCouponService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Autowired
+    private CouponPort couponPort;
+
+    @Autowired
+    @Qualifier("couponStore")
+    private CouponPort couponStore;
+
+    @Autowired
+    private ValidateCouponService validateCouponService;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void executeShouldIncrementRedeemedCount() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "RED001",
+                "Desc",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        ));
+
+        var output = service.execute(new RedeemCouponCommand(created.id()));
+        service.execute(new RedeemCouponCommand(created.id()));
+
+        assertEquals(created.id(), output.id());
+        assertTrue(output.redeemed());
+        assertEquals(2, repository.findById(created.id()).orElseThrow().getRedeemedCount());
+    }
+
+    @Test
+    void executeShouldThrowWhenRedemptionLimitReached() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "RED002",
+                "Desc",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true,
+                2
+        ));
+        service.execute(new RedeemCouponCommand(created.id()));
+        service.execute(new RedeemCouponCommand(created.id()));
+
+        assertThrows(DomainException.class, () -> service.execute(new RedeemCouponCommand(created.id())));
+        assertEquals(2, repository.findById(created.id()).orElseThrow().getRedeemedCount());
+    }
+
+    @Test
+    void executeShouldThrowWhenCouponNotPublished() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "RED003",
+                "Desc",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                false
+        ));
+
+        assertThrows(DomainException.class, () -> service.execute(new RedeemCouponCommand(created.id())));
+        assertEquals(0, repository.findById(created.id()).orElseThrow().getRedeemedCount());
+    }
+
+    @Test
+    void executeShouldExplainRejectionFromStoreNotFromCache() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "RED007",
+                "Desc",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        ));
+        couponPort.findById(created.id());
+        // Deleted behind the cache's back, as by another instance: the cached copy is still redeemable.
+        Coupon coupon = couponStore.findById(created.id()).orElseThrow();
+        coupon.delete();
+        couponStore.update(coupon);
+
+        DomainException ex = assertThrows(DomainException.class,
+                () -> service.execute(new RedeemCouponCommand(created.id())));
+
+        assertEquals(RejectionReason.DELETED, ex.getReason());
+        assertEquals("DELETED", validateCouponService.execute(new ValidateCouponCommand(created.id())).reason());
+    }
+
+    @Test
+    void executeShouldRejectWithSharedStacklessException() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "RED006",
+                "Desc",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                false
+        ));
+
+        DomainException first = assertThrows(DomainException.class,
+                () -> service.execute(new RedeemCouponCommand(created.id())));
+        DomainException second = assertThrows(DomainException.class,
+                () -> service.execute(new RedeemCouponCommand(created.id())));
+
+        assertSame(DomainException.rejected(RejectionReason.UNPUBLISHED), first);
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+        assertSame(NotFoundException.coupon(),
+                assertThrows(NotFoundException.class, () -> service.execute(new RedeemCouponCommand(99L))));
+    }
+
+    @Test
+    void executeShouldThrowWhenCouponDeleted() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "RED004",
+                "Desc",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        ));
+        service.execute(new RedeemCouponCommand(created.id()));
+        deleteCouponService.execute(new DeleteCouponCommand(created.id()));
+
+        assertThrows(DomainException.class, () -> service.execute(new RedeemCouponCommand(created.id())));
+        var persisted = repository.findById(created.id()).orElseThrow();
+        assertTrue(persisted.isDeleted());
+        assertEquals(1, persisted.getRedeemedCount());
+    }
+
+    @Test
+    void executeShouldThrowWhenCouponNotFound() {
+        assertThrows(NotFoundException.class, () -> service.execute(new RedeemCouponCommand(99L)));
+    }
+}
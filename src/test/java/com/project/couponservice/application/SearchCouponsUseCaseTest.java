@@ -0,0 +1,102 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchService;
+import com.project.couponservice.application.get.GetCouponOutput;
+import com.project.couponservice.application.search.SearchCouponsCommand;
+import com.project.couponservice.application.search.SearchCouponsOutput;
+import com.project.couponservice.application.search.SearchCouponsService;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.infra.entity.CouponJpaEntity;
+import com.project.couponservice.infra.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SearchCouponsUseCaseTest {
+
+    @Autowired
+    private SearchCouponsService service;
+
+    @Autowired
+    private CreateCouponsBatchService createCouponsBatchService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        List<CreateCouponCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            commands.add(new CreateCouponCommand(String.format("S%05d", i), "Desc", BigDecimal.ONE,
+                    base.plusHours(i % 7), i % 3 != 0));
+        }
+        createCouponsBatchService.execute(new CreateCouponsBatchCommand(commands));
+        repository.save(entity("EXP001", LocalDateTime.now().minusDays(1), false));
+        repository.save(entity("DEL001", LocalDateTime.now().plusDays(1), true));
+    }
+
+    @Test
+    void executeShouldWalkEveryPageInKeysetOrder() {
+        List<GetCouponOutput> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            SearchCouponsOutput output = service.execute(new SearchCouponsCommand("ACTIVE", null, null, null,
+                    cursor, 50));
+            all.addAll(output.coupons());
+            cursor = output.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(120, all.size());
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < all.size(); i++) {
+            assertTrue(ids.add(all.get(i).id()));
+            assertEquals("ACTIVE", all.get(i).status());
+            if (i > 0) {
+                assertFalse(all.get(i).expirationDate().isBefore(all.get(i - 1).expirationDate()));
+            }
+        }
+    }
+
+    @Test
+    void executeShouldFilterByStatusAndPublished() {
+        assertEquals(80, service.execute(new SearchCouponsCommand("active", true, null, null, null, 500))
+                .coupons().size());
+        assertEquals(List.of("EXP001"), service.execute(new SearchCouponsCommand("EXPIRED", null, null, null, null,
+                500)).coupons().stream().map(GetCouponOutput::code).toList());
+        assertEquals(List.of("DEL001"), service.execute(new SearchCouponsCommand("DELETED", null, null, null, null,
+                500)).coupons().stream().map(GetCouponOutput::code).toList());
+    }
+
+    @Test
+    void executeShouldRejectInvalidArguments() {
+        assertThrows(DomainException.class,
+                () -> service.execute(new SearchCouponsCommand("UNKNOWN", null, null, null, null, 10)));
+        assertThrows(DomainException.class,
+                () -> service.execute(new SearchCouponsCommand(null, null, null, null, null, 501)));
+        assertThrows(DomainException.class,
+                () -> service.execute(new SearchCouponsCommand(null, null, null, null, "not-a-cursor", 10)));
+    }
+
+    private CouponJpaEntity entity(String code, LocalDateTime expirationDate, boolean deleted) {
+        return new CouponJpaEntity(null, code, "Desc", BigDecimal.ONE, expirationDate, true, deleted,
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(2), null, 0, null);
+    }
+}
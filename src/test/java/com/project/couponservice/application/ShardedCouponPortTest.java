@@ -0,0 +1,192 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.create.CreateCouponsBatchCommand;
+import com.project.couponservice.application.create.CreateCouponsBatchService;
+import com.project.couponservice.application.delete.DeleteCouponCommand;
+import com.project.couponservice.application.delete.DeleteCouponService;
+import com.project.couponservice.application.get.GetCouponCommand;
+import com.project.couponservice.application.get.GetCouponService;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponService;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.DomainException;
+import com.project.couponservice.domain.ports.CouponFilter;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.domain.ports.CouponSearchCursor;
+import com.project.couponservice.infra.shard.CouponShards;
+import com.project.couponservice.infra.shard.ShardKey;
+import com.project.couponservice.infra.shard.ShardRebalancer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "coupon.store=sharded",
+        "coupon.shard.shards[0].url=" + ShardedCouponPortTest.SHARD_URL + "0;DB_CLOSE_DELAY=-1",
+        "coupon.shard.shards[1].url=" + ShardedCouponPortTest.SHARD_URL + "1;DB_CLOSE_DELAY=-1",
+        "coupon.shard.shards[2].url=" + ShardedCouponPortTest.SHARD_URL + "2;DB_CLOSE_DELAY=-1"
+})
+class ShardedCouponPortTest {
+
+    static final String SHARD_URL = "jdbc:h2:mem:test-shard-";
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private CreateCouponsBatchService createCouponsBatchService;
+
+    @Autowired
+    private GetCouponService getCouponService;
+
+    @Autowired
+    private RedeemCouponService redeemCouponService;
+
+    @Autowired
+    private DeleteCouponService deleteCouponService;
+
+    @Autowired
+    private CouponPort couponPort;
+
+    @Autowired
+    private CouponShards shards;
+
+    @Autowired
+    private ShardRebalancer rebalancer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        for (int shard = 0; shard < 3; shard++) {
+            try (Connection connection = DriverManager.getConnection(SHARD_URL + shard, "sa", "");
+                 Statement statement = connection.createStatement()) {
+                statement.execute("DELETE FROM coupons");
+            }
+        }
+    }
+
+    @Test
+    void idShouldEncodeTheBucketOfTheCode() {
+        var created = createCouponService.execute(command("SHD001"));
+
+        assertEquals(ShardKey.bucketOfCode("SHD001"), ShardKey.bucketOfId(created.id()));
+        assertEquals("SHD001", getCouponService.execute(new GetCouponCommand(created.id())).code());
+        assertTrue(couponPort.findByCode("SHD001").isPresent());
+    }
+
+    @Test
+    void duplicateCodeShouldBeRejected() {
+        createCouponService.execute(command("SHD002"));
+
+        assertThrows(DomainException.class, () -> createCouponService.execute(command("SHD002")));
+    }
+
+    @Test
+    void redeemAndDeleteShouldWorkOnTheOwningShard() {
+        var created = createCouponService.execute(command("SHD003"));
+
+        assertTrue(redeemCouponService.execute(new RedeemCouponCommand(created.id())).redeemed());
+        deleteCouponService.execute(new DeleteCouponCommand(created.id()));
+
+        Coupon coupon = couponPort.findById(created.id()).orElseThrow();
+        assertEquals(1, coupon.getRedeemedCount());
+        assertTrue(coupon.isDeleted());
+    }
+
+    @Test
+    void scanAndSearchShouldMergeAllShardsInOrder() {
+        createBatch(60);
+        Set<Integer> used = new HashSet<>();
+        for (Coupon coupon : couponPort.findAllByCodes(codes(60))) {
+            used.add(shards.forId(coupon.getId()).index());
+        }
+        assertEquals(3, used.size());
+
+        List<Long> scanned = new ArrayList<>();
+        Long afterId = null;
+        List<Coupon> page;
+        do {
+            page = couponPort.scan(CouponFilter.any(), afterId, 7);
+            page.forEach(coupon -> scanned.add(coupon.getId()));
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1).getId();
+        } while (page.size() == 7);
+        assertEquals(60, scanned.size());
+        assertEquals(scanned.stream().sorted().toList(), scanned);
+
+        List<Coupon> searched = new ArrayList<>();
+        CouponSearchCursor cursor = null;
+        do {
+            page = couponPort.search(CouponFilter.any(), cursor, 9);
+            searched.addAll(page);
+            Coupon last = page.isEmpty() ? null : page.get(page.size() - 1);
+            cursor = last == null ? cursor : new CouponSearchCursor(last.getExpirationDate(), last.getId());
+        } while (page.size() == 9);
+        assertEquals(60, searched.size());
+        for (int i = 1; i < searched.size(); i++) {
+            assertFalse(searched.get(i).getExpirationDate().isBefore(searched.get(i - 1).getExpirationDate()));
+        }
+    }
+
+    @Test
+    void rebalanceShouldSpreadBucketsWithoutLosingCoupons() {
+        createBatch(60);
+        int[] assignment = shards.buckets().snapshot();
+        for (int bucket = 0; bucket < ShardKey.BUCKETS; bucket++) {
+            if (assignment[bucket] == 2) {
+                rebalancer.move(bucket, 0);
+            }
+        }
+        assertFalse(rebalancer.plan().isEmpty());
+
+        rebalancer.rebalance();
+
+        assertTrue(rebalancer.plan().isEmpty());
+        int[] perShard = new int[3];
+        for (int shard : shards.buckets().snapshot()) {
+            perShard[shard]++;
+        }
+        assertTrue(perShard[2] >= ShardKey.BUCKETS / 3);
+        List<Coupon> found = couponPort.findAllByCodes(codes(60));
+        assertEquals(60, found.size());
+        for (Coupon coupon : found) {
+            assertEquals(coupon.getCode(), couponPort.findById(coupon.getId()).orElseThrow().getCode());
+        }
+    }
+
+    private void createBatch(int size) {
+        List<CreateCouponCommand> commands = new ArrayList<>();
+        for (String code : codes(size)) {
+            commands.add(command(code));
+        }
+        var output = createCouponsBatchService.execute(new CreateCouponsBatchCommand(commands));
+        assertEquals(size, output.created());
+    }
+
+    private static List<String> codes(int size) {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            codes.add(String.format("SB%04d", i));
+        }
+        return codes;
+    }
+
+    private static CreateCouponCommand command(String code) {
+        return new CreateCouponCommand(code, "Desc", BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1 + Math.floorMod(code.hashCode(), 5)), true);
+    }
+}
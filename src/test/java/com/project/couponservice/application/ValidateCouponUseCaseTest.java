@@ -0,0 +1,155 @@
+package com.project.couponservice.application;
+
+import com.project.couponservice.application.create.CreateCouponCommand;
+import com.project.couponservice.application.create.CreateCouponService;
+import com.project.couponservice.application.delete.DeleteCouponCommand;
+import com.project.couponservice.application.delete.DeleteCouponService;
+import com.project.couponservice.application.redeem.RedeemCouponCommand;
+import com.project.couponservice.application.redeem.RedeemCouponService;
+import com.project.couponservice.application.validate.ValidateCouponCommand;
+import com.project.couponservice.application.validate.ValidateCouponService;
+import com.project.couponservice.domain.Coupon;
+import com.project.couponservice.domain.RejectionReason;
+import com.project.couponservice.domain.ports.CouponPort;
+import com.project.couponservice.infra.repository.CouponRepository;
+import com.project.couponservice.infra.snapshot.InMemoryCouponSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "coupon.snapshot.refresh-interval=PT0.2S")
+class ValidateCouponUseCaseTest {
+
+    @Autowired
+    private ValidateCouponService service;
+
+    @Autowired
+    private CreateCouponService createCouponService;
+
+    @Autowired
+    private DeleteCouponService deleteCouponService;
+
+    @Autowired
+    private RedeemCouponService redeemCouponService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Autowired
+    @Qualifier("couponStore")
+    private CouponPort couponStore;
+
+    @Autowired
+    private InMemoryCouponSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void executeShouldAcceptRedeemableCoupon() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "VAL001", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true));
+
+        var output = service.execute(new ValidateCouponCommand(created.id()));
+
+        assertEquals(created.id(), output.id());
+        assertTrue(output.valid());
+        assertNull(output.reason());
+    }
+
+    @Test
+    void executeShouldRejectUnpublishedCoupon() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "VAL002", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), false));
+
+        var output = service.execute(new ValidateCouponCommand(created.id()));
+
+        assertFalse(output.valid());
+        assertEquals("UNPUBLISHED", output.reason());
+    }
+
+    @Test
+    void executeShouldRejectDeletedCoupon() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "VAL003", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true));
+        deleteCouponService.execute(new DeleteCouponCommand(created.id()));
+
+        var output = service.execute(new ValidateCouponCommand(created.id()));
+
+        assertFalse(output.valid());
+        assertEquals("DELETED", output.reason());
+    }
+
+    @Test
+    void executeShouldRejectCouponAfterLastRedemption() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "VAL004", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true, 1));
+        redeemCouponService.execute(new RedeemCouponCommand(created.id()));
+
+        var output = service.execute(new ValidateCouponCommand(created.id()));
+
+        assertFalse(output.valid());
+        assertEquals("LIMIT_REACHED", output.reason());
+    }
+
+    @Test
+    void executeShouldRejectUnknownCoupon() {
+        var output = service.execute(new ValidateCouponCommand(999999L));
+
+        assertFalse(output.valid());
+        assertEquals("NOT_FOUND", output.reason());
+    }
+
+    @Test
+    void executeShouldSeeCouponCreatedByAnotherInstance() {
+        // Saved straight to the store, as another instance would: this snapshot never saw it.
+        Coupon saved = couponStore.save(Coupon.newCoupon("VAL005", "Desc", BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1), true));
+
+        var output = service.execute(new ValidateCouponCommand(saved.getId()));
+
+        assertTrue(output.valid());
+    }
+
+    @Test
+    void executeShouldSeeDeletionByAnotherInstanceAfterScheduledRefresh() throws InterruptedException {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "VAL006", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true));
+        Coupon coupon = couponStore.findById(created.id()).orElseThrow();
+        coupon.delete();
+        couponStore.update(coupon);
+
+        // No manual refresh: the scheduled pass has to pick the deletion up.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        var output = service.execute(new ValidateCouponCommand(created.id()));
+        while (output.valid() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            output = service.execute(new ValidateCouponCommand(created.id()));
+        }
+
+        assertFalse(output.valid());
+        assertEquals("DELETED", output.reason());
+    }
+
+    @Test
+    void evictExpiredShouldDropCouponsThatExpiredAfterLoading() {
+        var created = createCouponService.execute(new CreateCouponCommand(
+                "VAL007", "Desc", BigDecimal.ONE, LocalDateTime.now().plusDays(1), true));
+        assertTrue(service.execute(new ValidateCouponCommand(created.id())).valid());
+
+        assertTrue(snapshot.evictExpired(LocalDateTime.now().plusDays(2)) >= 1);
+
+        assertEquals(Optional.of(RejectionReason.EXPIRED), snapshot.checkRedeem(created.id(), LocalDateTime.now()));
+    }
+}
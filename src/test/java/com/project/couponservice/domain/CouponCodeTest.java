@@ -0,0 +1,44 @@
+package com.project.couponservice.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CouponCodeTest {
+
+    @Test
+    void encodeShouldSanitizeAndRoundTrip() {
+        long value = CouponCode.encode("ab#-cd 12");
+
+        assertNotEquals(CouponCode.INVALID, value);
+        assertEquals("ABCD12", CouponCode.decode(value));
+        assertEquals(value, CouponCode.encode("ABCD12"));
+    }
+
+    @Test
+    void encodeShouldCoverWholeRange() {
+        assertEquals(0L, CouponCode.encode("000000"));
+        assertEquals("000000", CouponCode.decode(0L));
+        assertEquals("ZZZZZZ", CouponCode.decode(CouponCode.encode("zzzzzz")));
+    }
+
+    @Test
+    void encodeShouldRejectCodesWithWrongLength() {
+        assertEquals(CouponCode.INVALID, CouponCode.encode("A1@"));
+        assertEquals(CouponCode.INVALID, CouponCode.encode("ABCD123"));
+        assertEquals(CouponCode.INVALID, CouponCode.encode(""));
+    }
+
+    @Test
+    void encodeShouldRejectNonAsciiLetters() {
+        assertEquals(CouponCode.INVALID, CouponCode.encode("ABCDÉ1"));
+    }
+
+    @Test
+    void ofShouldThrowDomainExceptionWhenInvalid() {
+        assertThrows(DomainException.class, () -> CouponCode.of("A1@"));
+        assertEquals("ABC123", CouponCode.of("abc-123").toString());
+    }
+}